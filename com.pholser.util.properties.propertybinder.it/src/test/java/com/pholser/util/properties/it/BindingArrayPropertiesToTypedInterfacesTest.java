@@ -40,6 +40,7 @@ import static com.pholser.util.properties.it.boundtypes.Ternary.MAYBE;
 import static com.pholser.util.properties.it.boundtypes.Ternary.NO;
 import static com.pholser.util.properties.it.boundtypes.Ternary.YES;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class BindingArrayPropertiesToTypedInterfacesTest
   extends TypedStringBindingTestSupport<ArrayProperties> {
@@ -636,6 +637,12 @@ class BindingArrayPropertiesToTypedInterfacesTest
     assertArrayEquals(new String[0], bound.missingObjectArrayProperty());
   }
 
+  @Test void sharingZeroLengthArrayForMissingPrimitiveArrayProperty() {
+    assertSame(
+      bound.missingPrimitiveArrayProperty(),
+      bound.missingPrimitiveArrayProperty());
+  }
+
   @Override
   protected Class<ArrayProperties> boundType() {
     return ArrayProperties.class;
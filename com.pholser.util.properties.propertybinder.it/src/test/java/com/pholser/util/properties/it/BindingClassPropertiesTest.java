@@ -25,11 +25,22 @@
 
 package com.pholser.util.properties.it;
 
+import com.pholser.util.properties.PropertyBinder;
 import com.pholser.util.properties.it.boundtypes.ClassTypes;
+import com.pholser.util.properties.it.boundtypes.DefaultedClassProperty;
 import org.junit.jupiter.api.Test;
 
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class BindingClassPropertiesTest
@@ -94,4 +105,49 @@ class BindingClassPropertiesTest
   @Test void arrayClass() {
     assertEquals(Integer[].class, bound.arrayClass());
   }
+
+  @Test void repeatedReadsAnswerTheSameClass() {
+    assertSame(bound.upperBoundClass(), bound.upperBoundClass());
+  }
+
+  @Test void repeatedIncompatibleReadsKeepFailing() {
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> bound.incompatibleUpperBoundClass());
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> bound.incompatibleUpperBoundClass());
+  }
+
+  @Test void loadingClassesWithExplicitClassLoader() throws Exception {
+    List<String> requested = new ArrayList<>();
+    ClassTypes explicit =
+      binder.loadingClassesWith(recording(requested))
+        .bind(new FileReader(propertiesFile, UTF_8));
+
+    assertEquals(Integer.class, explicit.upperBoundClass());
+    assertEquals(singletonList("java.lang.Integer"), requested);
+  }
+
+  @Test void loadingDefaultClassesWithExplicitClassLoader() {
+    List<String> requested = new ArrayList<>();
+    DefaultedClassProperty explicit =
+      PropertyBinder.forType(DefaultedClassProperty.class)
+        .loadingClassesWith(recording(requested))
+        .bind(emptyMap());
+
+    assertEquals(Long.class, explicit.numberClass());
+    assertEquals(singletonList("java.lang.Long"), requested);
+  }
+
+  private ClassLoader recording(List<String> requested) {
+    return new ClassLoader(getClass().getClassLoader()) {
+      @Override public Class<?> loadClass(String name)
+        throws ClassNotFoundException {
+
+        requested.add(name);
+        return super.loadClass(name);
+      }
+    };
+  }
 }
@@ -25,7 +25,9 @@
 
 package com.pholser.util.properties.it;
 
+import com.pholser.util.properties.PropertyBinder;
 import com.pholser.util.properties.it.boundtypes.ListProperties;
+import com.pholser.util.properties.it.boundtypes.ListWithUnconvertibleElement;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -33,6 +35,7 @@ import java.math.BigInteger;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static com.pholser.util.properties.it.boundtypes.Ternary.MAYBE;
@@ -40,7 +43,11 @@ import static com.pholser.util.properties.it.boundtypes.Ternary.NO;
 import static com.pholser.util.properties.it.boundtypes.Ternary.YES;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class BindingListPropertiesToTypedInterfacesTest
   extends TypedStringBindingTestSupport<ListProperties> {
@@ -462,6 +469,48 @@ class BindingListPropertiesToTypedInterfacesTest
     assertEquals(emptyList(), bound.missingListProperty());
   }
 
+  @Test void sharingEmptyListForMissingListProperty() {
+    assertSame(bound.missingListProperty(), bound.missingListProperty());
+  }
+
+  @Test void listPropertiesAreUnmodifiable() {
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> bound.stringListProperty().add("zzz"));
+  }
+
+  @Test void convertingListElementsOnFirstAccess() {
+    ListWithUnconvertibleElement lazy =
+      PropertyBinder.forType(ListWithUnconvertibleElement.class)
+        .bind(singletonMap("integer.list.property", "1,nope,3"));
+
+    List<Integer> values = lazy.integerListProperty();
+
+    assertAll(
+      () -> assertEquals(3, values.size()),
+      () -> assertEquals(Integer.valueOf(3), values.get(2)),
+      () -> assertThrows(IllegalArgumentException.class, () -> values.get(1)));
+  }
+
+  @Test void unconvertibleListElementFailsTheSameWayOnEveryRead() {
+    ListWithUnconvertibleElement lazy =
+      PropertyBinder.forType(ListWithUnconvertibleElement.class)
+        .bind(singletonMap("integer.list.property", "1,nope,3"));
+
+    List<Integer> values = lazy.integerListProperty();
+    IllegalArgumentException first =
+      assertThrows(IllegalArgumentException.class, () -> values.get(1));
+    IllegalArgumentException again =
+      assertThrows(IllegalArgumentException.class, () -> values.get(1));
+
+    assertAll(
+      () -> assertSame(first, again),
+      () -> assertThrows(
+        IllegalArgumentException.class,
+        () -> values.forEach(v -> { })),
+      () -> assertEquals(Integer.valueOf(1), values.get(0)));
+  }
+
   @Test void multipleConversionsForDateTimeFormatter() {
     assertEquals(2, bound.dateTimeFormatters().size());
   }
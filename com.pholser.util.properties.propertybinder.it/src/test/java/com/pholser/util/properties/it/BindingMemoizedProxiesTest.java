@@ -0,0 +1,132 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.ArrayProperties;
+import com.pholser.util.properties.it.boundtypes.ListProperties;
+import com.pholser.util.properties.it.boundtypes.ScalarProperties;
+import com.pholser.util.properties.it.boundtypes.ScalarPropertiesWithArgs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Properties;
+
+import static com.pholser.util.properties.it.IO.closeQuietly;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BindingMemoizedProxiesTest extends StringBindingTestSupport {
+  private InputStream inputStream;
+  private Properties properties;
+
+  BindingMemoizedProxiesTest() {
+    super("/test.properties", "test", "properties");
+  }
+
+  @BeforeEach final void initializeProperties() throws Exception {
+    inputStream = new FileInputStream(propertiesFile);
+    properties = new Properties();
+    properties.load(inputStream);
+  }
+
+  @AfterEach final void closeInputStream() {
+    closeQuietly(inputStream);
+  }
+
+  @Test void repeatedReadsAnswerTheSameConversion() {
+    ListProperties bound =
+      new PropertyBinder<>(ListProperties.class).memoized().bind(properties);
+
+    assertSame(bound.stringListProperty(), bound.stringListProperty());
+  }
+
+  @Test void changedRawValueIsConvertedAgain() {
+    ListProperties bound =
+      new PropertyBinder<>(ListProperties.class).memoized().bind(properties);
+    bound.stringListProperty();
+
+    properties.setProperty("string.list.property", "x,y");
+
+    assertEquals(asList("x", "y"), bound.stringListProperty());
+  }
+
+  @Test void changedRawValueThatCannotBeConvertedFails() {
+    ScalarProperties bound =
+      new PropertyBinder<>(ScalarProperties.class)
+        .memoized()
+        .bind(properties);
+    bound.primitiveIntegerProperty();
+
+    properties.setProperty("primitive.integer.property", "!@#!@#!@#");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      bound::primitiveIntegerProperty);
+  }
+
+  @Test void repeatedArgumentsAnswerTheSameConversion() {
+    ScalarPropertiesWithArgs bound =
+      new PropertyBinder<>(ScalarPropertiesWithArgs.class)
+        .memoized()
+        .bind(properties);
+
+    assertSame(
+      bound.stringPropertyWithArguments("foo", "bar"),
+      bound.stringPropertyWithArguments("foo", "bar"));
+    assertEquals(
+      "baz to the bar",
+      bound.stringPropertyWithArguments("baz", "bar"));
+  }
+
+  @Test void memoizedListsAreUnmodifiable() {
+    ListProperties bound =
+      new PropertyBinder<>(ListProperties.class).memoized().bind(properties);
+
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> bound.stringListProperty().add("zzz"));
+  }
+
+  @Test void memoizedArraysAreCopiedOnEachCall() {
+    ArrayProperties bound =
+      new PropertyBinder<>(ArrayProperties.class)
+        .memoized()
+        .bind(properties);
+
+    bound.stringArrayProperty()[0] = "zzz";
+
+    assertArrayEquals(
+      new String[] {"aaa", "bbb", "ccc"},
+      bound.stringArrayProperty());
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.SubstitutedPerBinding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BindingOneBinderToManySourcesTest {
+  private PropertyBinder<SubstitutedPerBinding> binder;
+
+  @BeforeEach void initializeBinder() {
+    binder = new PropertyBinder<>(SubstitutedPerBinding.class);
+  }
+
+  @Test void eachBindingResolvesItsOwnSubstitutions() {
+    SubstitutedPerBinding commas = binder.bind(source(",", 2));
+    SubstitutedPerBinding semicolons = binder.bind(source(";", 1));
+
+    assertEquals(asList(1, 2, 3), commas.numbers());
+    assertEquals(2, commas.missingNumber());
+    assertEquals(LocalDate.of(2021, 3, 1), commas.date());
+    assertEquals(asList(1, 2, 3), semicolons.numbers());
+    assertEquals(1, semicolons.missingNumber());
+    assertEquals(LocalDate.of(2021, 3, 2), semicolons.date());
+  }
+
+  @Test void concurrentBindingsDoNotInterfere() throws Exception {
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 200; ++i) {
+        int fallback = i;
+        String separator = i % 2 == 0 ? "," : ";";
+        results.add(executor.submit(() -> {
+          SubstitutedPerBinding bound =
+            binder.bind(source(separator, fallback));
+
+          assertEquals(asList(1, 2, 3), bound.numbers());
+          assertEquals(fallback, bound.missingNumber());
+          assertEquals(
+            LocalDate.of(2021, 3, 1 + fallback % 2),
+            bound.date());
+          return null;
+        }));
+      }
+      for (Future<?> each : results) {
+        each.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, SECONDS));
+    }
+  }
+
+  private static Map<String, String> source(String separator, int fallback) {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("separator", separator);
+    properties.put("numbers", ";".equals(separator) ? "1;2;3" : "1,2,3");
+    properties.put("fallback", String.valueOf(fallback));
+    if (fallback % 2 == 0) {
+      properties.put("date.format", "yyyy-MM-dd");
+      properties.put("date", "2021-03-01");
+    } else {
+      properties.put("date.format", "dd/MM/yyyy");
+      properties.put("date", "02/03/2021");
+    }
+    return properties;
+  }
+}
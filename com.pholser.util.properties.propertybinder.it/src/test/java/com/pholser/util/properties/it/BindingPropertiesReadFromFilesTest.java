@@ -0,0 +1,154 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.ScalarProperties;
+import com.pholser.util.properties.it.boundtypes.StringProperty;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BindingPropertiesReadFromFilesTest
+  extends TypedStringBindingTestSupport<ScalarProperties> {
+
+  BindingPropertiesReadFromFilesTest() {
+    super("/test.properties", "test", "properties");
+  }
+
+  @Test void loadingFromFile() throws Exception {
+    ScalarProperties fromFile = binder.bind(propertiesFile.toPath());
+
+    assertPropertiesEqual(bound, fromFile);
+  }
+
+  @Test void snapshotFromFile() throws Exception {
+    ScalarProperties fromFile = binder.bindSnapshot(propertiesFile.toPath());
+
+    assertPropertiesEqual(bound, fromFile);
+  }
+
+  @Test void decodingUtf8() throws Exception {
+    Path file = fileOf("s=caf\u00e9 \u2615".getBytes(UTF_8));
+
+    StringProperty fromFile =
+      PropertyBinder.forType(StringProperty.class).bind(file);
+
+    assertEquals("caf\u00e9 \u2615", fromFile.s());
+  }
+
+  @Test void fallingBackToIso88591() throws Exception {
+    Path file = fileOf("s=caf\u00e9".getBytes(ISO_8859_1));
+
+    StringProperty fromFile =
+      PropertyBinder.forType(StringProperty.class).bind(file);
+
+    assertEquals("caf\u00e9", fromFile.s());
+  }
+
+  @Test void unicodeEscapesAndContinuationLines() throws Exception {
+    Path file =
+      fileOf(
+        "# comment\r\ns = caf\\u00e9 \\\r\n    au \\\n  lait\n"
+          .getBytes(ISO_8859_1));
+
+    StringProperty fromFile =
+      PropertyBinder.forType(StringProperty.class).bind(file);
+
+    assertEquals("caf\u00e9 au lait", fromFile.s());
+  }
+
+  @Test void malformedUnicodeEscape() throws Exception {
+    Path file = fileOf("s=\\u00".getBytes(ISO_8859_1));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> PropertyBinder.forType(StringProperty.class).bind(file));
+  }
+
+  @Test void cyclicReferencesAmongUnreadProperties() throws Exception {
+    Path file = fileOf("s=ok\na=[b]\nb=x[c]\nc=[a]\n".getBytes(ISO_8859_1));
+
+    StringProperty bound =
+      PropertyBinder.forType(StringProperty.class).bind(file);
+
+    assertEquals("ok", bound.s());
+  }
+
+  @Test void readingCyclicallyReferringProperty() throws Exception {
+    Path file = fileOf("s=[b]\nb=x[c]\nc=[s]\n".getBytes(ISO_8859_1));
+
+    StringProperty bound =
+      PropertyBinder.forType(StringProperty.class).bind(file);
+
+    assertThrows(IllegalArgumentException.class, bound::s);
+  }
+
+  @Test void snapshotOfCyclicallyReferringProperty() throws Exception {
+    Path file = fileOf("s=[b]\nb=x[c]\nc=[s]\n".getBytes(ISO_8859_1));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> PropertyBinder.forType(StringProperty.class).bindSnapshot(file));
+  }
+
+  @Test void deeplyChainedReferences() throws Exception {
+    StringBuilder contents = new StringBuilder("s=[k1]\n");
+    for (int i = 1; i < 5000; ++i) {
+      contents.append('k').append(i).append("=[k").append(i + 1).append("]\n");
+    }
+    contents.append("k5000=end\n");
+    Path file = fileOf(contents.toString().getBytes(ISO_8859_1));
+
+    assertEquals(
+      "end",
+      PropertyBinder.forType(StringProperty.class).bind(file).s());
+    assertEquals(
+      "end",
+      PropertyBinder.forType(StringProperty.class)
+        .bind(new StringReader(contents.toString()))
+        .s());
+  }
+
+  @Override protected Class<ScalarProperties> boundType() {
+    return ScalarProperties.class;
+  }
+
+  private static Path fileOf(byte[] contents) throws IOException {
+    File file = File.createTempFile("test", "properties");
+    file.deleteOnExit();
+    return Files.write(file.toPath(), contents);
+  }
+}
@@ -31,12 +31,17 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -86,6 +91,22 @@ class BindingScalarPropertiesToTypedInterfacesTest
     assertNull(bound.missingPrimitiveWrapperProperty());
   }
 
+  @Test void optionalIntProperty() {
+    assertEquals(OptionalInt.of(3), bound.optionalIntProperty());
+  }
+
+  @Test void optionalLongProperty() {
+    assertEquals(OptionalLong.of(-2L), bound.optionalLongProperty());
+  }
+
+  @Test void optionalDoubleProperty() {
+    assertEquals(OptionalDouble.of(3.14), bound.optionalDoubleProperty());
+  }
+
+  @Test void missingOptionalIntProperty() {
+    assertEquals(OptionalInt.empty(), bound.missingOptionalIntProperty());
+  }
+
   @Test void stringValuedPropertyToStringMethod() {
     assertEquals("plain", bound.stringProperty());
   }
@@ -269,6 +290,20 @@ class BindingScalarPropertiesToTypedInterfacesTest
     assertEquals(YES, bound.enumPropertyWithDefault());
   }
 
+  @Test void enumValuedPropertyMatchedCaseInsensitively() {
+    assertEquals(MAYBE, bound.caseInsensitiveEnumProperty());
+  }
+
+  @Test void enumValuedPropertyMatchedRelaxedly() {
+    assertEquals(RoundingMode.HALF_UP, bound.relaxedEnumProperty());
+  }
+
+  @Test void defaultForEnumValuedPropertyMatchedRelaxedly() {
+    assertEquals(
+      RoundingMode.HALF_EVEN,
+      bound.relaxedEnumPropertyWithDefault());
+  }
+
   @Test void bindingDateValuedPropertyToDateMethodUsingParsePatterns()
     throws Exception {
 
@@ -283,6 +318,12 @@ class BindingScalarPropertiesToTypedInterfacesTest
       bound.datePropertyWithDefaultWithParsePatterns());
   }
 
+  @Test void bindingLocalDateValuedPropertyUsingLaterOfManyParsePatterns() {
+    assertEquals(
+      LocalDate.of(2020, 12, 31),
+      bound.localDatePropertyWithParsePatterns());
+  }
+
   @Test void uuidProperty() {
     assertEquals(
       UUID.fromString("1929c9fd-19e4-4224-8221-0b56cf7be970"),
@@ -51,6 +51,12 @@ class BindingScalarPropertiesWithArgsToTypedInterfacesTest
       bound.stringPropertyWithArguments("foo", "bar"));
   }
 
+  @Test void reorderingArgumentsToPropertyMethodAndEscapingPercent() {
+    assertEquals(
+      "bar, foo: 100% foo",
+      bound.stringPropertyWithReorderedArguments("foo", "bar"));
+  }
+
   @Test
   void passingArgumentsOfVariousTypesToPropertyMethodAndFormattingOnResult()
     throws Exception {
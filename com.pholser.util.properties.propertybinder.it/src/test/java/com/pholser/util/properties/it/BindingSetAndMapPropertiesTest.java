@@ -0,0 +1,208 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.MapWithBadKeyValueSeparator;
+import com.pholser.util.properties.it.boundtypes.SetAndMapProperties;
+import com.pholser.util.properties.it.boundtypes.SortedSetOfIncomparableType;
+import com.pholser.util.properties.it.boundtypes.Ternary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.pholser.util.properties.it.boundtypes.Ternary.MAYBE;
+import static com.pholser.util.properties.it.boundtypes.Ternary.NO;
+import static com.pholser.util.properties.it.boundtypes.Ternary.YES;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BindingSetAndMapPropertiesTest {
+  private final Map<String, String> properties = new HashMap<>();
+  private PropertyBinder<SetAndMapProperties> binder;
+
+  @BeforeEach void initializeBinder() {
+    properties.put("allowed.methods", "PUT,GET,POST,GET");
+    properties.put("answers", "MAYBE,YES,MAYBE");
+    properties.put("answer.set", "NO,YES");
+    properties.put("ordered.ports", "8082 , 80,  443");
+    properties.put("timeouts", "connect=5,read=30,connect=10");
+    properties.put("answer.labels", "YES -> sure;MAYBE->perhaps");
+    properties.put("answer.dates", "YES=01/02/2020;NO=15/03/2021");
+    binder = new PropertyBinder<>(SetAndMapProperties.class);
+  }
+
+  @Test void setKeepsFirstOccurrenceOrder() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertEquals(
+      asList("PUT", "GET", "POST"),
+      new ArrayList<>(bound.allowedMethods()));
+  }
+
+  @Test void setsAreUnmodifiable() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> bound.allowedMethods().add("DELETE"));
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> bound.answers().add(NO));
+  }
+
+  @Test void setOfEnumConstants() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertEquals(EnumSet.of(YES, MAYBE), bound.answers());
+    assertEquals(
+      asList(YES, MAYBE),
+      new ArrayList<>(bound.answers()));
+  }
+
+  @Test void enumSet() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertEquals(EnumSet.of(YES, NO), bound.answerSet());
+  }
+
+  @Test void memoizedEnumSetsAreCopied() {
+    SetAndMapProperties bound = binder.memoized().bind(properties);
+
+    EnumSet<Ternary> first = bound.answerSet();
+    first.add(MAYBE);
+
+    assertNotSame(first, bound.answerSet());
+    assertEquals(EnumSet.of(YES, NO), bound.answerSet());
+  }
+
+  @Test void missingEnumSetIsEmptyAndModifiable() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    EnumSet<Ternary> missing = bound.missingAnswers();
+    missing.add(YES);
+
+    assertTrue(bound.missingAnswers().isEmpty());
+  }
+
+  @Test void sortedSet() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertEquals(
+      asList(80, 443, 8082),
+      new ArrayList<>(bound.orderedPorts()));
+  }
+
+  @Test void defaultedSet() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertEquals(
+      new HashSet<>(asList("GET", "HEAD")),
+      bound.defaultedMethods());
+  }
+
+  @Test void mapLastValueForKeyWins() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    Map<String, Integer> expected = new LinkedHashMap<>();
+    expected.put("connect", 10);
+    expected.put("read", 30);
+    assertEquals(expected, bound.timeouts());
+  }
+
+  @Test void mapsAreUnmodifiable() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> bound.timeouts().put("write", 1));
+  }
+
+  @Test void mapWithEnumKeysAndCustomSeparators() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    Map<Ternary, String> expected = new HashMap<>();
+    expected.put(YES, "sure");
+    expected.put(MAYBE, "perhaps");
+    assertEquals(expected, bound.answerLabels());
+    assertEquals(
+      asList(YES, MAYBE),
+      new ArrayList<>(bound.answerLabels().keySet()));
+  }
+
+  @Test void parsePatternsApplyOnlyToMapValues() throws Exception {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+    Map<Ternary, Date> expected = new HashMap<>();
+    expected.put(YES, format.parse("01/02/2020"));
+    expected.put(NO, format.parse("15/03/2021"));
+    assertEquals(expected, bound.answerDates());
+  }
+
+  @Test void missingMapIsEmpty() {
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertTrue(bound.missingTimeouts().isEmpty());
+  }
+
+  @Test void mapEntryWithoutKeyValueSeparator() {
+    properties.put("timeouts", "connect=5,read");
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertThrows(IllegalArgumentException.class, bound::timeouts);
+  }
+
+  @Test void unconvertibleSetElement() {
+    properties.put("answer.set", "YES,PERHAPS");
+    SetAndMapProperties bound = binder.bind(properties);
+
+    assertThrows(IllegalArgumentException.class, bound::answerSet);
+  }
+
+  @Test void sortedSetOfIncomparableType() {
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> PropertyBinder.forType(SortedSetOfIncomparableType.class));
+  }
+
+  @Test void malformedKeyValueSeparator() {
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> PropertyBinder.forType(MapWithBadKeyValueSeparator.class));
+  }
+}
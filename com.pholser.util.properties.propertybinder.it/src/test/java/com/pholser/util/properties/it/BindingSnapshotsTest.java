@@ -0,0 +1,125 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.ArrayProperties;
+import com.pholser.util.properties.it.boundtypes.ListProperties;
+import com.pholser.util.properties.it.boundtypes.ListWithUnconvertibleElement;
+import com.pholser.util.properties.it.boundtypes.ScalarProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.InputStream;
+import java.util.Properties;
+
+import static com.pholser.util.properties.it.IO.closeQuietly;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BindingSnapshotsTest
+  extends TypedStringBindingTestSupport<ScalarProperties> {
+
+  private InputStream inputStream;
+  private Properties properties;
+
+  BindingSnapshotsTest() {
+    super("/test.properties", "test", "properties");
+  }
+
+  @BeforeEach final void initializeProperties() throws Exception {
+    inputStream = new FileInputStream(propertiesFile);
+    properties = new Properties();
+    properties.load(inputStream);
+  }
+
+  @AfterEach final void closeInputStream() {
+    closeQuietly(inputStream);
+  }
+
+  @Test void snapshotAgreesWithLiveBinding() throws Exception {
+    ScalarProperties snapshot =
+      binder.bindSnapshot(new FileReader(propertiesFile, UTF_8));
+
+    assertPropertiesEqual(bound, snapshot);
+  }
+
+  @Test void alteringPropertiesAfterSnapshotDoesNotAffectIt() {
+    ScalarProperties snapshot = binder.bindSnapshot(properties);
+    properties.setProperty("primitive.integer.property", "!@#!@#!@#");
+
+    assertEquals(
+      bound.primitiveIntegerProperty(),
+      snapshot.primitiveIntegerProperty());
+  }
+
+  @Test void unconvertiblePropertyFailsAtSnapshotTime() {
+    properties.setProperty("primitive.integer.property", "!@#!@#!@#");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> binder.bindSnapshot(properties));
+  }
+
+  @Test void unconvertibleListElementFailsAtSnapshotTime() {
+    properties.setProperty("integer.list.property", "1,!@#,3");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () ->
+        new PropertyBinder<>(ListWithUnconvertibleElement.class)
+          .bindSnapshot(properties));
+  }
+
+  @Test void snapshotArraysAreCopiedOnEachCall() {
+    ArrayProperties snapshot =
+      new PropertyBinder<>(ArrayProperties.class).bindSnapshot(properties);
+
+    snapshot.stringArrayProperty()[0] = "zzz";
+
+    assertArrayEquals(
+      new String[] {"aaa", "bbb", "ccc"},
+      snapshot.stringArrayProperty());
+  }
+
+  @Test void snapshotListsAreUnmodifiable() {
+    ListProperties snapshot =
+      new PropertyBinder<>(ListProperties.class).bindSnapshot(properties);
+
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> snapshot.stringListProperty().add("zzz"));
+  }
+
+  @Override protected Class<ScalarProperties> boundType() {
+    return ScalarProperties.class;
+  }
+}
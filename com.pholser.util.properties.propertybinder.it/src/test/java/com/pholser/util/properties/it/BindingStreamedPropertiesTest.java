@@ -0,0 +1,160 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.StreamedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BindingStreamedPropertiesTest {
+  private final Map<String, String> properties = new HashMap<>();
+  private PropertyBinder<StreamedProperties> binder;
+
+  @BeforeEach void initializeBinder() {
+    properties.put("hosts", "alpha,beta,gamma");
+    properties.put("ports", "8080 ; 8081;8082");
+    properties.put("port.list", "8080 ; 8081;8082");
+    properties.put("weights", "0.5|0.25|0.25");
+    binder = new PropertyBinder<>(StreamedProperties.class);
+  }
+
+  @Test void streamOfStrings() {
+    StreamedProperties bound = binder.bind(properties);
+
+    assertEquals(
+      asList("alpha", "beta", "gamma"),
+      bound.hosts().collect(toList()));
+  }
+
+  @Test void streamOfConvertedElementsWithCustomSeparator() {
+    StreamedProperties bound = binder.bind(properties);
+
+    assertEquals(
+      asList(8080, 8081, 8082),
+      bound.ports().collect(toList()));
+  }
+
+  @Test void freshStreamOnEveryCall() {
+    StreamedProperties bound = binder.bind(properties);
+
+    assertEquals(3, bound.ports().count());
+    assertEquals(3, bound.ports().count());
+  }
+
+  @Test void shortCircuitingStopsConverting() {
+    properties.put("ports", "8080;8081;oops");
+    StreamedProperties bound = binder.bind(properties);
+
+    assertTrue(bound.ports().anyMatch(p -> p == 8081));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> bound.ports().anyMatch(p -> p == 8082));
+  }
+
+  @Test void iterator() {
+    StreamedProperties bound = binder.bind(properties);
+
+    List<Integer> ports = new ArrayList<>();
+    bound.portIterator().forEachRemaining(ports::add);
+
+    assertEquals(asList(8080, 8081, 8082), ports);
+  }
+
+  @Test void iteratorConvertsOnDemand() {
+    properties.put("port.list", "8080;oops");
+    StreamedProperties bound = binder.bind(properties);
+
+    Iterator<Integer> ports = bound.portIterator();
+
+    assertEquals(Integer.valueOf(8080), ports.next());
+    assertThrows(IllegalArgumentException.class, ports::next);
+  }
+
+  @Test void iterableCanBeTraversedRepeatedly() {
+    StreamedProperties bound = binder.bind(properties);
+    Iterable<Double> weights = bound.weights();
+
+    List<Double> first = new ArrayList<>();
+    weights.forEach(first::add);
+    List<Double> second = new ArrayList<>();
+    weights.forEach(second::add);
+
+    assertEquals(asList(0.5, 0.25, 0.25), first);
+    assertEquals(first, second);
+  }
+
+  @Test void missingStreamIsEmpty() {
+    StreamedProperties bound = binder.bind(properties);
+
+    assertEquals(0, bound.missingPorts().count());
+  }
+
+  @Test void defaultedStream() {
+    StreamedProperties bound = binder.bind(properties);
+
+    assertEquals(asList(80, 443), bound.defaultedPorts().collect(toList()));
+    assertEquals(asList(80, 443), bound.defaultedPorts().collect(toList()));
+  }
+
+  @Test void memoizedStreamsCanBeConsumedRepeatedly() {
+    StreamedProperties bound = binder.memoized().bind(properties);
+
+    assertEquals(asList(8080, 8081, 8082), bound.ports().collect(toList()));
+    assertEquals(asList(8080, 8081, 8082), bound.ports().collect(toList()));
+  }
+
+  @Test void snapshotIteratorsCanBeTraversedRepeatedly() {
+    StreamedProperties snapshot = binder.bindSnapshot(properties);
+
+    Iterator<Integer> first = snapshot.portIterator();
+    first.forEachRemaining(p -> { });
+
+    assertFalse(first.hasNext());
+    assertTrue(snapshot.portIterator().hasNext());
+  }
+
+  @Test void unconvertibleElementFailsAtSnapshotTime() {
+    properties.put("ports", "8080;oops");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> binder.bindSnapshot(properties));
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.LargeAggregates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConvertingAggregatesInParallelTest {
+  private static final int SIZE = 10_000;
+
+  private final Map<String, String> properties = new HashMap<>();
+  private final AtomicInteger tasks = new AtomicInteger();
+  private final Executor counting =
+    task -> {
+      tasks.incrementAndGet();
+      task.run();
+    };
+
+  @BeforeEach void prepareLargeValues() {
+    String elements =
+      range(0, SIZE).mapToObj(String::valueOf).collect(joining(","));
+    properties.put("large.int.array", elements);
+    properties.put("large.integer.array", elements);
+    properties.put("large.integer.list", elements);
+    properties.put(
+      "large.integer.map",
+      range(0, SIZE).mapToObj(i -> (SIZE - i) + "=" + i).collect(joining(","))
+        + "," + SIZE + "=-1");
+  }
+
+  @Test void keepsOrderOfPrimitiveArrayElements() {
+    LargeAggregates bound = bindInParallel(100);
+
+    assertArrayEquals(range(0, SIZE).toArray(), bound.largeIntArray());
+  }
+
+  @Test void keepsOrderOfArrayElements() {
+    LargeAggregates bound = bindInParallel(100);
+
+    Integer[] expected = new Integer[SIZE];
+    range(0, SIZE).forEach(i -> expected[i] = i);
+    assertArrayEquals(expected, bound.largeIntegerArray());
+  }
+
+  @Test void keepsOrderOfListElements() {
+    LargeAggregates bound = bindInParallel(100);
+
+    List<Integer> expected = new ArrayList<>();
+    range(0, SIZE).forEach(expected::add);
+    assertEquals(expected, bound.largeIntegerList());
+  }
+
+  @Test void keepsOrderOfMapEntries() {
+    LargeAggregates bound = bindInParallel(100);
+
+    Map<Integer, Integer> expected = new LinkedHashMap<>();
+    range(0, SIZE).forEach(i -> expected.put(SIZE - i, i));
+    expected.put(SIZE, -1);
+    Map<Integer, Integer> converted = bound.largeIntegerMap();
+    assertEquals(expected, converted);
+    assertEquals(
+      new ArrayList<>(expected.keySet()),
+      new ArrayList<>(converted.keySet()));
+  }
+
+  @Test void reportsEveryUnconvertibleMapEntry() {
+    properties.put("large.integer.map", "1=1,x=2,3=3,4,5=y");
+    LargeAggregates bound = bindInParallel(1);
+
+    IllegalArgumentException thrown =
+      assertThrows(IllegalArgumentException.class, bound::largeIntegerMap);
+
+    assertTrue(
+      thrown.getMessage().contains("[1, 3, 4]"),
+      thrown.getMessage());
+    assertEquals(3, thrown.getSuppressed().length);
+  }
+
+  @Test void convertsOnExecutorWhoseOnlyThreadIsReading() throws Exception {
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    try {
+      LargeAggregates bound =
+        new PropertyBinder<>(LargeAggregates.class)
+          .convertingInParallel(100, single)
+          .bind(properties);
+
+      Future<int[]> read = single.submit(bound::largeIntArray);
+
+      assertArrayEquals(range(0, SIZE).toArray(), read.get(10, SECONDS));
+    } finally {
+      single.shutdownNow();
+    }
+  }
+
+  @Test void convertsOnReadingThreadWhenExecutorRejects() {
+    LargeAggregates bound =
+      new PropertyBinder<>(LargeAggregates.class)
+        .convertingInParallel(
+          100,
+          task -> {
+            throw new RejectedExecutionException();
+          })
+        .bind(properties);
+
+    assertArrayEquals(range(0, SIZE).toArray(), bound.largeIntArray());
+  }
+
+  @Test void usesGivenExecutorAtOrAboveThreshold() {
+    bindInParallel(SIZE).largeIntArray();
+
+    assertTrue(tasks.get() > 0);
+  }
+
+  @Test void convertsSequentiallyBelowThreshold() {
+    bindInParallel(SIZE + 1).largeIntArray();
+
+    assertEquals(0, tasks.get());
+  }
+
+  @Test void reportsEveryUnconvertibleElement() {
+    properties.put("large.integer.list", "1,x,3,4,y");
+    LargeAggregates bound = bindInParallel(1);
+
+    IllegalArgumentException thrown =
+      assertThrows(IllegalArgumentException.class, bound::largeIntegerList);
+
+    assertTrue(thrown.getMessage().contains("[1, 4]"), thrown.getMessage());
+    assertEquals(2, thrown.getSuppressed().length);
+  }
+
+  @Test void nonPositiveThreshold() {
+    PropertyBinder<LargeAggregates> binder =
+      new PropertyBinder<>(LargeAggregates.class);
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> binder.convertingInParallel(0));
+  }
+
+  @Test void nullExecutor() {
+    PropertyBinder<LargeAggregates> binder =
+      new PropertyBinder<>(LargeAggregates.class);
+
+    assertThrows(
+      NullPointerException.class,
+      () -> binder.convertingInParallel(1, null));
+  }
+
+  @Test void convertsInCommonPool() {
+    LargeAggregates bound =
+      new PropertyBinder<>(LargeAggregates.class)
+        .convertingInParallel(100)
+        .bind(properties);
+
+    assertArrayEquals(range(0, SIZE).toArray(), bound.largeIntArray());
+  }
+
+  private LargeAggregates bindInParallel(int threshold) {
+    return new PropertyBinder<>(LargeAggregates.class)
+      .convertingInParallel(threshold, counting)
+      .bind(properties);
+  }
+}
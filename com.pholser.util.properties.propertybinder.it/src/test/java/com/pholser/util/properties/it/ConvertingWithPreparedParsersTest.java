@@ -0,0 +1,176 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.DatesWithParsePatterns;
+import com.pholser.util.properties.it.boundtypes.LocalDateWithMalformedParsePattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConvertingWithPreparedParsersTest {
+  private static final LocalDate EXPECTED = LocalDate.of(2021, 3, 14);
+  private static final List<String> FORMATTED =
+    asList("03/14/2021", "2021-03-14", "14.03.2021");
+
+  private PropertyBinder<DatesWithParsePatterns> binder;
+
+  @BeforeEach void initializeBinder() {
+    binder = PropertyBinder.forType(DatesWithParsePatterns.class);
+  }
+
+  @Test void eachParsePatternApplies() {
+    for (String each : FORMATTED) {
+      DatesWithParsePatterns bound =
+        binder.bind(singletonMap("local.date", each));
+
+      assertEquals(EXPECTED, bound.localDate(), each);
+      assertEquals(EXPECTED, bound.localDate(), each);
+    }
+  }
+
+  @Test void invalidDateUnderOnePatternTriesTheNext() {
+    for (String each : asList("03/14/2021", "14/03/2021")) {
+      DatesWithParsePatterns bound =
+        binder.bind(singletonMap("ambiguous.local.date", each));
+
+      assertEquals(EXPECTED, bound.ambiguousLocalDate(), each);
+    }
+  }
+
+  @Test void partialMatchOfParsePatternDoesNotApply() {
+    DatesWithParsePatterns bound =
+      binder.bind(singletonMap("local.date", "2021-03-14T00:00"));
+
+    assertThrows(IllegalArgumentException.class, bound::localDate);
+  }
+
+  @Test void noParsePatternApplies() {
+    DatesWithParsePatterns bound =
+      binder.bind(singletonMap("local.date", "14 March 2021"));
+
+    assertThrows(IllegalArgumentException.class, bound::localDate);
+  }
+
+  @Test void preparedParsersAreSharedAcrossThreads() throws Exception {
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 200; ++i) {
+        String formatted = FORMATTED.get(i % FORMATTED.size());
+        results.add(executor.submit(() -> {
+          DatesWithParsePatterns bound =
+            binder.bind(singletonMap("local.date", formatted));
+          for (int j = 0; j < 20; ++j) {
+            assertEquals(EXPECTED, bound.localDate(), formatted);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> each : results) {
+        each.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, SECONDS));
+    }
+  }
+
+  @Test void eachDateParsePatternApplies() throws Exception {
+    Date expected = new SimpleDateFormat("yyyy-MM-dd").parse("2021-03-14");
+
+    for (String each : asList("03/14/2021", "2021-03-14")) {
+      DatesWithParsePatterns bound = binder.bind(singletonMap("date", each));
+
+      assertEquals(expected, bound.date(), each);
+      assertEquals(expected, bound.date(), each);
+    }
+  }
+
+  @Test void dateParsePatternsAreNotLenient() {
+    DatesWithParsePatterns bound =
+      binder.bind(singletonMap("date", "02/30/2021"));
+
+    assertThrows(IllegalArgumentException.class, bound::date);
+  }
+
+  @Test void dateFormatsAreSharedAcrossThreadsAndProperties()
+    throws Exception {
+
+    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 200; ++i) {
+        String day = String.format("2021-03-%02d", 1 + i % 28);
+        Date expected = format.parse(day);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("date", day);
+        properties.put("other.date", day);
+        results.add(executor.submit(() -> {
+          DatesWithParsePatterns bound = binder.bind(properties);
+          for (int j = 0; j < 20; ++j) {
+            assertEquals(expected, bound.date(), day);
+            assertEquals(expected, bound.otherDate(), day);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> each : results) {
+        each.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, SECONDS));
+    }
+  }
+
+  @Test void malformedParsePatternSurfacesOnRead() {
+    LocalDateWithMalformedParsePattern bound =
+      PropertyBinder.forType(LocalDateWithMalformedParsePattern.class)
+        .bind(singletonMap("local.date", "2021-03-14"));
+
+    assertThrows(IllegalArgumentException.class, bound::localDate);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.Quantity;
+import com.pholser.util.properties.it.boundtypes.QuantityProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConvertingWithSeveralConversionsTest {
+  private PropertyBinder<QuantityProperty> binder;
+
+  @BeforeEach void initializeBinder() {
+    binder = PropertyBinder.forType(QuantityProperty.class);
+  }
+
+  @Test void firstConversionToSucceedWins() {
+    assertEquals(new Quantity(12, "each"), quantityOf("12"));
+  }
+
+  @Test void laterConversionWhenEarlierOnesFail() {
+    assertEquals(new Quantity(3, "kg"), quantityOf("3 kg"));
+  }
+
+  @Test void resultsDoNotDependOnConversionHistory() {
+    assertEquals(new Quantity(3, "kg"), quantityOf("3 kg"));
+    assertEquals(new Quantity(12, "each"), quantityOf("12"));
+    assertEquals(new Quantity(5, "m"), quantityOf("5 m"));
+    assertEquals(new Quantity(7, "each"), quantityOf("7"));
+  }
+
+  @Test void everyConversionFails() {
+    IllegalArgumentException ex =
+      assertThrows(IllegalArgumentException.class, () -> quantityOf("lots"));
+
+    assertEquals(2, ex.getMessage().split("NumberFormatException").length - 1);
+  }
+
+  private Quantity quantityOf(String value) {
+    return binder.bind(singletonMap("quantity", value)).quantity();
+  }
+}
@@ -43,10 +43,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CreatingSubstitutablePropertiesWithDefaultsTest {
+  private Properties defaults;
   private SubstitutableProperties props;
 
   @BeforeEach void setUp() {
-    Properties defaults = new Properties();
+    defaults = new Properties();
     defaults.setProperty("first.key", "default.first.value");
     defaults.setProperty("second.key", "default.second.value + [first.key]");
 
@@ -110,4 +111,26 @@ class CreatingSubstitutablePropertiesWithDefaultsTest {
       "default.second.value + boo",
       props.getProperty("second.key"));
   }
+
+  @Test void changingDefaultsAfterRead() {
+    assertEquals(
+      "default.second.value + default.first.value",
+      props.getProperty("second.key"));
+
+    defaults.setProperty("first.key", "changed");
+
+    assertEquals("changed", props.getProperty("first.key"));
+    assertEquals(
+      "default.second.value + changed",
+      props.getProperty("second.key"));
+  }
+
+  @Test void referenceToKeyLaterAddedToDefaults() {
+    props.setProperty("third.key", "[fourth.key]!");
+    assertEquals("!", props.getProperty("third.key"));
+
+    defaults.setProperty("fourth.key", "found");
+
+    assertEquals("found!", props.getProperty("third.key"));
+  }
 }
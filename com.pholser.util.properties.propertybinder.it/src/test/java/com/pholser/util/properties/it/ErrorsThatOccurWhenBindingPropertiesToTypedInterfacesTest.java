@@ -35,6 +35,7 @@ import com.pholser.util.properties.it.boundtypes.CharacterPropertyWithTooLongDef
 import com.pholser.util.properties.it.boundtypes.DateWithNonLenientValue;
 import com.pholser.util.properties.it.boundtypes.DefaultValueWithBothValueAndValueOf;
 import com.pholser.util.properties.it.boundtypes.DefaultValueWithNeitherValueNorValueOf;
+import com.pholser.util.properties.it.boundtypes.EnumWithUnrecognizedNameMatching;
 import com.pholser.util.properties.it.boundtypes.InterfaceWithSuperinterfaces;
 import com.pholser.util.properties.it.boundtypes.ListOfArrayProperties;
 import com.pholser.util.properties.it.boundtypes.ListOfUnconvertibleTypeWithDefault;
@@ -45,9 +46,12 @@ import com.pholser.util.properties.it.boundtypes.MissingPrimitiveProperty;
 import com.pholser.util.properties.it.boundtypes.ScalarProperties;
 import com.pholser.util.properties.it.boundtypes.SeparatedWithBothPatternAndValueOf;
 import com.pholser.util.properties.it.boundtypes.SeparatorOnNonAggregateType;
+import com.pholser.util.properties.it.boundtypes.StringProperty;
+import com.pholser.util.properties.it.boundtypes.Ternary;
 import com.pholser.util.properties.it.boundtypes.TypeWithNonPublicValueOfProperties;
 import com.pholser.util.properties.it.boundtypes.TypeWithNonStaticValueOfProperties;
 import com.pholser.util.properties.it.boundtypes.TypeWithValueOfWithBadReturnTypeProperties;
+import com.pholser.util.properties.it.boundtypes.UnconvertibleOptionalLong;
 import com.pholser.util.properties.it.boundtypes.UnconvertibleScalar;
 import com.pholser.util.properties.it.boundtypes.UnsupportedAggregateTypeProperties;
 import com.pholser.util.properties.it.boundtypes.UpperBoundedList;
@@ -55,10 +59,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.FileReader;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.ResourceBundle;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ErrorsThatOccurWhenBindingPropertiesToTypedInterfacesTest
@@ -110,6 +118,34 @@ class ErrorsThatOccurWhenBindingPropertiesToTypedInterfacesTest
       () -> PropertyBinder.forType(null));
   }
 
+  @Test void unrecognizedEnumNameMatchingMatchesExactNamesOnly() {
+    PropertyBinder<EnumWithUnrecognizedNameMatching> binder =
+      PropertyBinder.forType(EnumWithUnrecognizedNameMatching.class);
+
+    assertEquals(
+      Ternary.MAYBE,
+      binder.bind(singletonMap("enum.property", "MAYBE")).enumProperty());
+
+    EnumWithUnrecognizedNameMatching bound =
+      binder.bind(singletonMap("enum.property", "maybe"));
+
+    assertThrows(IllegalArgumentException.class, bound::enumProperty);
+  }
+
+  @Test void enumNameThatDiffersInCaseWithoutRelaxedMatching()
+    throws Exception {
+
+    Properties properties = new Properties();
+    try (FileReader reader = new FileReader(propertiesFile, UTF_8)) {
+      properties.load(reader);
+    }
+    properties.setProperty("enum.property", "maybe");
+
+    ScalarProperties bound = scalar.bind(properties);
+
+    assertThrows(IllegalArgumentException.class, bound::enumProperty);
+  }
+
   @Test void nonSingleCharacterValueForCharacterProperty() {
     assertThrows(
       IllegalArgumentException.class,
@@ -128,6 +164,16 @@ class ErrorsThatOccurWhenBindingPropertiesToTypedInterfacesTest
       bound::unconvertible);
   }
 
+  @Test void unconvertibleOptionalLong() throws Exception {
+    UnconvertibleOptionalLong bound =
+      PropertyBinder.forType(UnconvertibleOptionalLong.class)
+        .bind(new FileReader(propertiesFile, UTF_8));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      bound::unconvertible);
+  }
+
   @Test void upperBoundedListType() {
     assertThrows(
       IllegalArgumentException.class,
@@ -277,4 +323,50 @@ class ErrorsThatOccurWhenBindingPropertiesToTypedInterfacesTest
       () ->
         PropertyBinder.forType(UnsupportedAggregateTypeProperties.class));
   }
+
+  @Test void cyclicPropertyReferencesInProperties() {
+    Properties properties = new Properties();
+    properties.setProperty("s", "[b]");
+    properties.setProperty("b", "x[c]");
+    properties.setProperty("c", "[s]");
+
+    StringProperty bound =
+      PropertyBinder.forType(StringProperty.class).bind(properties);
+
+    assertThrows(IllegalArgumentException.class, bound::s);
+  }
+
+  @Test void cyclicPropertyReferencesInMap() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("s", "[b]");
+    properties.put("b", "[s]");
+
+    StringProperty bound =
+      PropertyBinder.forType(StringProperty.class).bind(properties);
+
+    assertThrows(IllegalArgumentException.class, bound::s);
+  }
+
+  @Test void cyclicReferencesAmongUnreadPropertiesInMap() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("s", "ok");
+    properties.put("a", "[b]");
+    properties.put("b", "[a]");
+
+    assertEquals(
+      "ok",
+      PropertyBinder.forType(StringProperty.class).bind(properties).s());
+  }
+
+  @Test void snapshotOfCyclicallyReferringPropertyInMap() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("s", "[b]");
+    properties.put("b", "[s]");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () ->
+        PropertyBinder.forType(StringProperty.class)
+          .bindSnapshot(properties));
+  }
 }
@@ -31,6 +31,7 @@ import com.pholser.util.properties.PropertySource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
@@ -79,6 +80,18 @@ class InvokingToStringOnBoundProxiesTest {
       .contains(bundle.toString());
   }
 
+  @Test void readerSourceShowsSubstitutedValues() throws Exception {
+    Schema bound = binder.bind(new StringReader("foo=bar\nbaz=[foo]!\n"));
+
+    String asString = bound.toString();
+
+    assertThat(asString)
+      .contains(Schema.class.getName())
+      .contains("foo=bar")
+      .contains("baz=bar!")
+      .doesNotContain("[foo]");
+  }
+
   @Test void arbitraryPropertySource() {
     PropertySource source = new PropertySource() {
       @Override public Object propertyFor(BoundProperty key) {
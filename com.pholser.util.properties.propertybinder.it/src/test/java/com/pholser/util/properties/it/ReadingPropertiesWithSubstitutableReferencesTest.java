@@ -25,13 +25,26 @@
 
 package com.pholser.util.properties.it;
 
+import com.pholser.util.properties.PropertyBinder;
 import com.pholser.util.properties.SubstitutableProperties;
+import com.pholser.util.properties.it.boundtypes.IntProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ReadingPropertiesWithSubstitutableReferencesTest {
   private Properties substitutable;
@@ -71,4 +84,212 @@ class ReadingPropertiesWithSubstitutableReferencesTest {
 
     assertEquals("4 + ", substitutable.getProperty("other.reference"));
   }
+
+  @Test void valuesWithoutReferences() {
+    substitutable.setProperty("plain", "nothing to see here");
+    substitutable.setProperty("unclosed", "[not a reference");
+
+    assertEquals("nothing to see here", substitutable.getProperty("plain"));
+    assertEquals("[not a reference", substitutable.getProperty("unclosed"));
+  }
+
+  @Test void substitutedTextIsNotScannedForReferences() {
+    substitutable.setProperty("open", "[");
+    substitutable.setProperty("target", "found");
+    substitutable.setProperty("indirect", "[open]target]");
+
+    assertEquals("[target]", substitutable.getProperty("indirect"));
+  }
+
+  @Test void referencedValuesAreSubstitutedLiterally() {
+    substitutable.setProperty("price", "$1.50 \\ each");
+    substitutable.setProperty("label", "costs [price]");
+
+    assertEquals("costs $1.50 \\ each", substitutable.getProperty("label"));
+  }
+
+  @Test void referencesDoNotSpanLines() {
+    substitutable.setProperty("one", "1");
+    substitutable.setProperty("multiline", "[on\ne] [one]");
+
+    assertEquals("[on\ne] 1", substitutable.getProperty("multiline"));
+  }
+
+  @Test void resolvedViewOfAllProperties() {
+    SubstitutableProperties properties = new SubstitutableProperties();
+    properties.setProperty("one", "1");
+    properties.setProperty("two", "2[one]");
+    properties.setProperty("three", "3[one]3[two]");
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("one", "1");
+    expected.put("two", "21");
+    expected.put("three", "31321");
+    assertEquals(expected, properties.resolved());
+  }
+
+  @Test void resolvedViewIncludesDefaults() {
+    Properties defaults = new Properties();
+    defaults.setProperty("one", "1");
+    SubstitutableProperties properties =
+      new SubstitutableProperties(defaults);
+    properties.setProperty("two", "2[one]");
+
+    assertEquals("21", properties.resolved().get("two"));
+    assertEquals("1", properties.resolved().get("one"));
+  }
+
+  @Test void resolvedViewRejectsCycles() {
+    SubstitutableProperties properties = new SubstitutableProperties();
+    properties.setProperty("a", "[b]");
+    properties.setProperty("b", "[a]");
+
+    assertThrows(IllegalArgumentException.class, properties::resolved);
+  }
+
+  @Test void resolvedViewOfDeeplyChainedReferences() {
+    SubstitutableProperties properties = chainOfReferences(5000);
+
+    assertEquals("end", properties.resolved().get("link.0"));
+  }
+
+  @Test void cycleAtEndOfDeepChain() {
+    SubstitutableProperties properties = chainOfReferences(5000);
+    properties.setProperty("link.5000", "[link.4000]");
+
+    assertThrows(IllegalArgumentException.class, properties::resolved);
+  }
+
+  @Test void bindingDeeplyChainedReferences() {
+    SubstitutableProperties properties = chainOfReferences(5000);
+    properties.setProperty("i", "42");
+
+    Map<String, String> map = new HashMap<>();
+    properties.stringPropertyNames()
+      .forEach(k -> map.put(k, (String) properties.get(k)));
+
+    assertEquals(
+      42,
+      PropertyBinder.forType(IntProperty.class)
+        .bind((Properties) properties)
+        .i());
+    assertEquals(42, PropertyBinder.forType(IntProperty.class).bind(map).i());
+  }
+
+  @Test void cyclicReferencesOnRead() {
+    substitutable.setProperty("a", "[b]");
+    substitutable.setProperty("b", "[a]");
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> substitutable.getProperty("a"));
+  }
+
+  @Test void changingReferencedPropertyAffectsDependents() {
+    substitutable.setProperty("base.dir", "/opt");
+    substitutable.setProperty("lib.dir", "[base.dir]/lib");
+    substitutable.setProperty("jar", "[lib.dir]/app.jar");
+    substitutable.setProperty("unrelated", "[other]");
+    substitutable.setProperty("other", "x");
+    assertEquals("/opt/lib/app.jar", substitutable.getProperty("jar"));
+    assertEquals("x", substitutable.getProperty("unrelated"));
+
+    substitutable.setProperty("base.dir", "/usr/local");
+
+    assertEquals("/usr/local/lib/app.jar", substitutable.getProperty("jar"));
+    assertEquals("/usr/local/lib", substitutable.getProperty("lib.dir"));
+    assertEquals("x", substitutable.getProperty("unrelated"));
+  }
+
+  @Test void addingPreviouslyMissingReferencedProperty() {
+    substitutable.setProperty("greeting", "hello [name]");
+    assertEquals("hello ", substitutable.getProperty("greeting"));
+
+    substitutable.setProperty("name", "world");
+
+    assertEquals("hello world", substitutable.getProperty("greeting"));
+  }
+
+  @Test void removingReferencedPropertyThroughViews() {
+    substitutable.setProperty("name", "world");
+    substitutable.setProperty("greeting", "hello [name]");
+    assertEquals("hello world", substitutable.getProperty("greeting"));
+
+    substitutable.keySet().remove("name");
+
+    assertEquals("hello ", substitutable.getProperty("greeting"));
+  }
+
+  @Test void changingReferencedPropertyThroughEntries() {
+    substitutable.setProperty("name", "world");
+    substitutable.setProperty("greeting", "hello [name]");
+    assertEquals("hello world", substitutable.getProperty("greeting"));
+
+    substitutable.entrySet().stream()
+      .filter(e -> "name".equals(e.getKey()))
+      .forEach(e -> e.setValue("there"));
+
+    assertEquals("hello there", substitutable.getProperty("greeting"));
+  }
+
+  @Test void removingReferencedPropertyThroughViewsWhileReading()
+    throws Exception {
+
+    ExecutorService executor = newFixedThreadPool(3);
+    try {
+      for (int i = 0; i < 400; ++i) {
+        substitutable.setProperty("name", "world");
+        substitutable.setProperty("greeting", "hello [name]");
+
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 3; ++r) {
+          readers.add(executor.submit(() -> {
+            for (int j = 0; j < 50; ++j) {
+              substitutable.getProperty("greeting");
+            }
+          }));
+        }
+        removeNameThroughView(i % 4);
+        for (Future<?> each : readers) {
+          each.get();
+        }
+
+        assertEquals("hello ", substitutable.getProperty("greeting"));
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, SECONDS));
+    }
+  }
+
+  private void removeNameThroughView(int view) {
+    switch (view) {
+      case 0:
+        substitutable.keySet().remove("name");
+        break;
+      case 1:
+        substitutable.values().remove("world");
+        break;
+      case 2:
+        substitutable.entrySet().removeIf(e -> "name".equals(e.getKey()));
+        break;
+      default:
+        for (Iterator<Object> keys = substitutable.keySet().iterator();
+          keys.hasNext();) {
+
+          if ("name".equals(keys.next())) {
+            keys.remove();
+          }
+        }
+    }
+  }
+
+  private static SubstitutableProperties chainOfReferences(int length) {
+    SubstitutableProperties properties = new SubstitutableProperties();
+    for (int i = 0; i < length; ++i) {
+      properties.setProperty("link." + i, "[link." + (i + 1) + ']');
+    }
+    properties.setProperty("link." + length, "end");
+    return properties;
+  }
 }
@@ -0,0 +1,235 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.conversions.InetAddressResolution;
+import com.pholser.util.properties.it.boundtypes.HostProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolvingInetAddressPropertiesTest {
+  private final Map<String, InetAddress> hosts = new HashMap<>();
+  private final AtomicInteger lookups = new AtomicInteger();
+  private HostProperties bound;
+
+  @BeforeEach void populateLocalHostsTable() throws Exception {
+    hosts.put("service.example", address("service.example", 10, 0, 0, 1));
+  }
+
+  @Test void resolvesUsingConfiguredResolver() throws Exception {
+    bindResolvingFor(Duration.ofHours(1));
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 1),
+      bound.serviceHost());
+  }
+
+  @Test void reusesAnswerWithinTimeToLive() {
+    bindResolvingFor(Duration.ofHours(1));
+
+    bound.serviceHost();
+    bound.serviceHost();
+
+    assertEquals(1, lookups.get());
+  }
+
+  @Test void refreshesAnswerAfterTimeToLive() throws Exception {
+    bindResolvingFor(Duration.ZERO);
+    bound.serviceHost();
+
+    hosts.put("service.example", address("service.example", 10, 0, 0, 2));
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 2),
+      bound.serviceHost());
+  }
+
+  @Test void servesLastGoodAnswerWhenRefreshFails() throws Exception {
+    bindResolvingFor(Duration.ZERO);
+    bound.serviceHost();
+
+    hosts.clear();
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 1),
+      bound.serviceHost());
+  }
+
+  @Test void unresolvableHost() {
+    hosts.clear();
+    bindResolvingFor(Duration.ofHours(1));
+
+    assertThrows(IllegalArgumentException.class, bound::serviceHost);
+  }
+
+  @Test void resolvesWhenBound() {
+    bindResolvingFor(Duration.ofHours(1));
+
+    assertEquals(1, lookups.get());
+  }
+
+  @Test void keepsFailedLookupWithinTimeToLive() {
+    hosts.clear();
+    bindResolvingFor(Duration.ofHours(1));
+
+    assertThrows(IllegalArgumentException.class, bound::serviceHost);
+    assertThrows(IllegalArgumentException.class, bound::serviceHost);
+    assertEquals(1, lookups.get());
+  }
+
+  @Test void retriesFailedLookupAfterTimeToLive() throws Exception {
+    hosts.clear();
+    bindResolvingFor(Duration.ZERO);
+    hosts.put("service.example", address("service.example", 10, 0, 0, 3));
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 3),
+      bound.serviceHost());
+  }
+
+  @Test void readLooksUpHostWhoseLookupHasNotStarted() throws Exception {
+    List<Runnable> neverRun = new ArrayList<>();
+    bound =
+      new PropertyBinder<>(HostProperties.class)
+        .resolvingAddressesWith(
+          new InetAddressResolution(
+            this::lookUp,
+            Duration.ofHours(1),
+            neverRun::add))
+        .bind(singletonMap("service.host", "service.example"));
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 1),
+      bound.serviceHost());
+    assertEquals(1, neverRun.size());
+
+    neverRun.get(0).run();
+    assertEquals(1, lookups.get());
+  }
+
+  @Test void readWaitsForLookupInProgress() throws Exception {
+    CountDownLatch looking = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      bound =
+        new PropertyBinder<>(HostProperties.class)
+          .resolvingAddressesWith(
+            new InetAddressResolution(
+              host -> {
+                looking.countDown();
+                try {
+                  release.await();
+                } catch (InterruptedException ex) {
+                  Thread.currentThread().interrupt();
+                }
+                return lookUp(host);
+              },
+              Duration.ofHours(1),
+              executor))
+          .bind(singletonMap("service.host", "service.example"));
+      assertTrue(looking.await(10, SECONDS));
+
+      Future<InetAddress> read =
+        ForkJoinPool.commonPool().submit(bound::serviceHost);
+      release.countDown();
+
+      assertEquals(
+        address("service.example", 10, 0, 0, 1),
+        read.get(10, SECONDS));
+      assertEquals(1, lookups.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test void bindersResolveIndependently() throws Exception {
+    bindResolvingFor(Duration.ofHours(1));
+    HostProperties other =
+      new PropertyBinder<>(HostProperties.class)
+        .resolvingAddressesWith(
+          new InetAddressResolution(
+            host -> address(host, 10, 0, 0, 9),
+            Duration.ofHours(1),
+            Runnable::run))
+        .bind(singletonMap("service.host", "service.example"));
+
+    assertEquals(
+      address("service.example", 10, 0, 0, 1),
+      bound.serviceHost());
+    assertEquals(
+      address("service.example", 10, 0, 0, 9),
+      other.serviceHost());
+  }
+
+  private void bindResolvingFor(Duration timeToLive) {
+    bound =
+      new PropertyBinder<>(HostProperties.class)
+        .resolvingAddressesWith(
+          new InetAddressResolution(this::lookUp, timeToLive, Runnable::run))
+        .bind(singletonMap("service.host", "service.example"));
+  }
+
+  private InetAddress lookUp(String host) throws UnknownHostException {
+    lookups.incrementAndGet();
+    InetAddress address = hosts.get(host);
+    if (address == null) {
+      throw new UnknownHostException(host);
+    }
+    return address;
+  }
+
+  private static InetAddress address(String host, int... octets)
+    throws UnknownHostException {
+
+    byte[] bytes = new byte[octets.length];
+    for (int i = 0; i < octets.length; ++i) {
+      bytes[i] = (byte) octets[i];
+    }
+    return InetAddress.getByAddress(host, bytes);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it;
+
+import com.pholser.util.properties.PropertyBinder;
+import com.pholser.util.properties.it.boundtypes.LiterallySeparatedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeparatingValuesOnLiteralSeparatorsTest {
+  private static final List<String> SHAPES =
+    asList(
+      "a#b#c",
+      "#a#b",
+      "##a",
+      "a#b#",
+      "a##b##",
+      "#",
+      "###",
+      "",
+      "a",
+      " a # b ",
+      "a#",
+      "#a#");
+
+  private PropertyBinder<LiterallySeparatedProperties> binder;
+
+  @BeforeEach void initializeBinder() {
+    binder = PropertyBinder.forType(LiterallySeparatedProperties.class);
+  }
+
+  @Test void defaultComma() {
+    assertSeparatedAsPatternSplitWould("commas", ",", b -> b.commas());
+  }
+
+  @Test void escapedMetacharacter() {
+    assertSeparatedAsPatternSplitWould("pipes", "|", b -> b.pipes());
+  }
+
+  @Test void multiCharacterSeparator() {
+    assertSeparatedAsPatternSplitWould("arrows", "->", b -> b.arrows());
+  }
+
+  @Test void multiCharacterSeparatorStreamed() {
+    assertSeparatedAsPatternSplitWould(
+      "streamed.arrows",
+      "->",
+      b -> b.streamedArrows().collect(toList()));
+  }
+
+  @Test void repeatedCharacterSeparator() {
+    assertSeparatedAsPatternSplitWould(
+      "doubled",
+      "::",
+      b -> asList(b.doubled()));
+  }
+
+  @Test void overlappingOccurrencesOfRepeatedCharacterSeparator() {
+    LiterallySeparatedProperties bound =
+      binder.bind(singletonMap("doubled", "a:::b::::c"));
+
+    assertEquals(asList("a", ":b", "", "c"), asList(bound.doubled()));
+  }
+
+  private void assertSeparatedAsPatternSplitWould(
+    String key,
+    String separator,
+    Function<LiterallySeparatedProperties, List<String>> accessor) {
+
+    Pattern quoted = Pattern.compile(Pattern.quote(separator));
+    for (String shape : SHAPES) {
+      String value = shape.replace("#", separator);
+      LiterallySeparatedProperties bound =
+        binder.bind(singletonMap(key, value));
+
+      assertEquals(
+        asList(quoted.split(value)),
+        accessor.apply(bound),
+        "separating [" + value + "] on [" + separator + ']');
+    }
+  }
+}
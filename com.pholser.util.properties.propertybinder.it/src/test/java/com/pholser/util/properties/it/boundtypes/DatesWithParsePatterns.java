@@ -0,0 +1,50 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it.boundtypes;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.ParsedAs;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+public interface DatesWithParsePatterns {
+  @BoundProperty("local.date")
+  @ParsedAs({"MM/dd/yyyy", "yyyy-MM-dd", "dd.MM.yyyy"})
+  LocalDate localDate();
+
+  @BoundProperty("ambiguous.local.date")
+  @ParsedAs({"MM/dd/yyyy", "dd/MM/yyyy"})
+  LocalDate ambiguousLocalDate();
+
+  @BoundProperty("date")
+  @ParsedAs({"MM/dd/yyyy", "yyyy-MM-dd"})
+  Date date();
+
+  @BoundProperty("other.date")
+  @ParsedAs("yyyy-MM-dd")
+  Date otherDate();
+}
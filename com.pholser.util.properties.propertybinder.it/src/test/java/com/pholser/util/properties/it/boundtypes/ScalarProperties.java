@@ -31,9 +31,14 @@ import com.pholser.util.properties.ParsedAs;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.nio.file.attribute.PosixFilePermission;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -185,6 +190,19 @@ public interface ScalarProperties {
   @DefaultsTo("YES")
   Ternary enumPropertyWithDefault();
 
+  @BoundProperty("case.insensitive.enum.property")
+  @ParsedAs("CASE_INSENSITIVE")
+  Ternary caseInsensitiveEnumProperty();
+
+  @BoundProperty("relaxed.enum.property")
+  @ParsedAs("RELAXED")
+  RoundingMode relaxedEnumProperty();
+
+  @BoundProperty("relaxed.enum.property.with.default")
+  @ParsedAs("RELAXED")
+  @DefaultsTo("half-even")
+  RoundingMode relaxedEnumPropertyWithDefault();
+
   @BoundProperty("missing.property")
   String missingProperty();
 
@@ -203,6 +221,18 @@ public interface ScalarProperties {
   @BoundProperty("missing.primitive.wrapper.property")
   Integer missingPrimitiveWrapperProperty();
 
+  @BoundProperty("optional.int.property")
+  OptionalInt optionalIntProperty();
+
+  @BoundProperty("optional.long.property")
+  OptionalLong optionalLongProperty();
+
+  @BoundProperty("optional.double.property")
+  OptionalDouble optionalDoubleProperty();
+
+  @BoundProperty("missing.optional.int.property")
+  OptionalInt missingOptionalIntProperty();
+
   @BoundProperty("date.property.with.parse.patterns")
   @ParsedAs("yyyy")
   Date datePropertyWithParsePatterns();
@@ -212,6 +242,10 @@ public interface ScalarProperties {
   @DefaultsTo("2003")
   Date datePropertyWithDefaultWithParsePatterns();
 
+  @BoundProperty("local.date.property.with.parse.patterns")
+  @ParsedAs({"MM/dd/yyyy", "yyyy-MM-dd", "dd.MM.yyyy"})
+  LocalDate localDatePropertyWithParsePatterns();
+
   @BoundProperty("uuid.property")
   UUID uuidProperty();
 
@@ -36,6 +36,9 @@ public interface ScalarPropertiesWithArgs {
   @BoundProperty("string.property.with.arguments")
   String stringPropertyWithArguments(String first, String second);
 
+  @BoundProperty("string.property.with.reordered.arguments")
+  String stringPropertyWithReorderedArguments(String first, String second);
+
   @BoundProperty("string.property.with.typed.arguments")
   String stringPropertyWithTypedArguments(int quantity, Date time);
 
@@ -0,0 +1,74 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it.boundtypes;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.DefaultsTo;
+import com.pholser.util.properties.ParsedAs;
+import com.pholser.util.properties.ValuesSeparatedBy;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+public interface SetAndMapProperties {
+  @BoundProperty("allowed.methods")
+  Set<String> allowedMethods();
+
+  @BoundProperty("answers")
+  Set<Ternary> answers();
+
+  @BoundProperty("answer.set")
+  EnumSet<Ternary> answerSet();
+
+  @BoundProperty("ordered.ports")
+  @ValuesSeparatedBy(pattern = "\\s*,\\s*")
+  SortedSet<Integer> orderedPorts();
+
+  @BoundProperty("missing.answers")
+  EnumSet<Ternary> missingAnswers();
+
+  @BoundProperty("defaulted.methods")
+  @DefaultsTo("GET,HEAD")
+  Set<String> defaultedMethods();
+
+  @BoundProperty("timeouts")
+  Map<String, Integer> timeouts();
+
+  @BoundProperty("answer.labels")
+  @ValuesSeparatedBy(pattern = ";", keyValuePattern = "\\s*->\\s*")
+  Map<Ternary, String> answerLabels();
+
+  @BoundProperty("answer.dates")
+  @ValuesSeparatedBy(pattern = ";")
+  @ParsedAs("dd/MM/yyyy")
+  Map<Ternary, Date> answerDates();
+
+  @BoundProperty("missing.timeouts")
+  Map<String, Integer> missingTimeouts();
+}
@@ -0,0 +1,57 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it.boundtypes;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.DefaultsTo;
+import com.pholser.util.properties.ValuesSeparatedBy;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public interface StreamedProperties {
+  @BoundProperty("hosts")
+  Stream<String> hosts();
+
+  @BoundProperty("ports")
+  @ValuesSeparatedBy(pattern = "\\s*;\\s*")
+  Stream<Integer> ports();
+
+  @BoundProperty("port.list")
+  @ValuesSeparatedBy(pattern = "\\s*;\\s*")
+  Iterator<Integer> portIterator();
+
+  @BoundProperty("weights")
+  @ValuesSeparatedBy(pattern = "\\|")
+  Iterable<Double> weights();
+
+  @BoundProperty("missing.ports")
+  Stream<Integer> missingPorts();
+
+  @BoundProperty("defaulted.ports")
+  @DefaultsTo("80,443")
+  Stream<Integer> defaultedPorts();
+}
@@ -0,0 +1,49 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.it.conversions;
+
+import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.it.boundtypes.Quantity;
+
+import java.util.List;
+
+/*
+ * Converts amounts with units, such as 3 kg, to quantities. A bare amount
+ * is taken to be in "unit"s, so this conversion overlaps with
+ * CountConversion.
+ */
+public class MeasureConversion extends Conversion<Quantity> {
+  public MeasureConversion() {
+    super(Quantity.class);
+  }
+
+  @Override public Quantity convert(String value, List<String> patterns) {
+    String[] pieces = value.trim().split("\\s+", 2);
+    return new Quantity(
+      Long.parseLong(pieces[0]),
+      pieces.length == 2 ? pieces[1] : "unit");
+  }
+}
@@ -34,4 +34,8 @@ open module com.pholser.util.properties.propertybinder.it {
   requires org.junit.jupiter.api;
   requires org.junit.jupiter.engine;
   requires org.junit.platform.launcher;
+
+  provides com.pholser.util.properties.conversions.Conversion
+    with com.pholser.util.properties.it.conversions.CountConversion,
+      com.pholser.util.properties.it.conversions.MeasureConversion;
 }
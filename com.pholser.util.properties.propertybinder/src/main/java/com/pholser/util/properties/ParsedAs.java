@@ -43,6 +43,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * conversion for {@link java.time.LocalDateTime} might treat the patterns
  * as those accepted by {@link java.time.format.DateTimeFormatter}.
  *
+ * Values of {@code enum} types match constant names exactly, unless
+ * marked with pattern {@code CASE_INSENSITIVE}, to ignore case, or
+ * {@code RELAXED}, to ignore case and also treat dashes as underscores.
+ *
  * The patterns can be a plain values given by {@link #value()}, or values
  * composed in whole or in part of the values of other properties,
  * given by {@link #valueOf()}. References to other properties in a `valueOf`
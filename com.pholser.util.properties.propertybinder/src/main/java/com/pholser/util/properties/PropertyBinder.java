@@ -26,17 +26,25 @@
 package com.pholser.util.properties;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.InetAddressResolution;
+import com.pholser.util.properties.internal.CompactPropertySource;
 import com.pholser.util.properties.internal.MapPropertySource;
 import com.pholser.util.properties.internal.ResourceBundlePropertySource;
 import com.pholser.util.properties.internal.Schema;
-import com.pholser.util.properties.internal.validation.SchemaValidator;
+import com.pholser.util.properties.internal.conversions.ConversionOptions;
 
+import javax.validation.Validation;
+import javax.validation.executable.ExecutableValidator;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
-import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.pholser.util.properties.internal.CompiledSchemas.compiledSchemaFor;
 
 /**
  * Creates proxies that provide typed access to values in
@@ -67,6 +75,11 @@ import java.util.ServiceLoader;
  *
  * Binders discover instances of the {@linkplain java.util.ServiceLoader
  * service} {@link Conversion} to attempt conversions of property values.
+ * Discovery happens once per process, the first time any binder is created,
+ * through the class loader of {@link Conversion}; so conversions must be
+ * visible to that loader.
+ * A schema is inspected and compiled once per process as well; every binder
+ * for that schema shares the compiled form.
  *
  * The {@link ValuesSeparatedBy} annotation can be applied only to schema
  * methods with an aggregate return type.
@@ -94,6 +107,21 @@ import java.util.ServiceLoader;
  * returns a primitive type and neither a property nor its default
  * is present, the method will raise {@code NullPointerException}.
  *
+ * Lists answered by schema methods are unmodifiable. Their elements are
+ * converted when first accessed, so a malformed element raises
+ * {@code IllegalArgumentException} from the list rather than from the
+ * schema method: from {@code get} of that element, and from anything that
+ * reads it, such as iteration or {@code equals}. Each element is converted
+ * at most once per list, so a malformed element raises the same exception
+ * every time it is read. Snapshot and memoized proxies, and lists converted
+ * in parallel, convert every element up front instead.
+ *
+ * References among property values, such as {@code [other.key]}, are
+ * substituted when a property is read, whatever the source of properties.
+ * A property whose value refers to itself, directly or indirectly, raises
+ * {@link IllegalArgumentException} when read; cycles among properties that
+ * are never read do no harm.
+ *
  * Binders validate property values if {@link #validated()} is called,
  * according to the
  * <a href="https://docs.oracle.com/javaee/7/tutorial/bean-validation.htm">
@@ -111,6 +139,10 @@ import java.util.ServiceLoader;
 public class PropertyBinder<T> {
   private final Schema<T> schema;
 
+  private ExecutableValidator validator;
+  private boolean memoized;
+  private ConversionOptions conversionOptions = ConversionOptions.DEFAULTS;
+
   /**
    * Creates a new property binder from the given schema.
    *
@@ -120,11 +152,7 @@ public class PropertyBinder<T> {
    * is invalid in any way
    */
   public PropertyBinder(Class<T> schema) {
-    @SuppressWarnings("rawtypes")
-    ServiceLoader<Conversion> loader = ServiceLoader.load(Conversion.class);
-
-    this.schema =
-      new SchemaValidator(loader.iterator()).validate(schema);
+    this.schema = compiledSchemaFor(schema);
   }
 
   /**
@@ -149,13 +177,115 @@ public class PropertyBinder<T> {
    * @return self
    */
   public PropertyBinder<T> validated() {
-    schema.validateWhenPropertiesBecomeBound();
+    validator =
+      Validation.buildDefaultValidatorFactory()
+        .getValidator()
+        .forExecutables();
+    return this;
+  }
+
+  /**
+   * Tells the property binder that proxies it binds will remember the
+   * converted value of each zero-parameter property, together with the raw
+   * value it came from. Such a proxy converts a property again only when
+   * its raw value changes in the underlying source of configuration.
+   * Properties whose methods take parameters are remembered the same way
+   * for a bounded number of recently used argument lists.
+   *
+   * Memoized arrays are copied on every call; memoized lists are
+   * unmodifiable.
+   *
+   * @return self
+   */
+  public PropertyBinder<T> memoized() {
+    memoized = true;
+    return this;
+  }
+
+  /**
+   * Tells the property binder that proxies it binds will load the classes
+   * named by {@code Class}-typed properties using the given class loader.
+   * Otherwise, such classes are loaded by the class loader of the schema
+   * type that declares the property.
+   *
+   * @param loader the class loader to use
+   * @return self
+   * @throws NullPointerException if {@code loader} is {@code null}
+   */
+  public PropertyBinder<T> loadingClassesWith(ClassLoader loader) {
+    conversionOptions = conversionOptions.withClassLoader(loader);
+    return this;
+  }
+
+  /**
+   * Tells the property binder that proxies it binds will resolve the host
+   * names given by {@link java.net.InetAddress}-typed properties using the
+   * given resolution. Otherwise, such names are resolved via
+   * {@link java.net.InetAddress#getByName(String)}, and answers are kept
+   * for {@linkplain InetAddressResolution#DEFAULT_TIME_TO_LIVE thirty
+   * seconds}.
+   *
+   * @param resolution the resolution to use
+   * @return self
+   * @throws NullPointerException if {@code resolution} is {@code null}
+   */
+  public PropertyBinder<T> resolvingAddressesWith(
+    InetAddressResolution resolution) {
+
+    conversionOptions = conversionOptions.withAddressResolution(resolution);
+    return this;
+  }
+
+  /**
+   * Tells the property binder that proxies it binds will convert the
+   * elements of array-, list-, set- and map-typed properties in parallel,
+   * using the {@linkplain ForkJoinPool#commonPool() common pool}, whenever
+   * a value separates into at least the given number of elements.
+   *
+   * @param threshold the least number of elements to convert in parallel
+   * @return self
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   * @see #convertingInParallel(int, Executor)
+   */
+  public PropertyBinder<T> convertingInParallel(int threshold) {
+    return convertingInParallel(threshold, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Tells the property binder that proxies it binds will convert the
+   * elements of array-, list-, set- and map-typed properties in parallel,
+   * using the given executor, whenever a value separates into at least the
+   * given number of elements.
+   *
+   * Elements keep the order in which they appear in the value. If any
+   * elements cannot be converted, the resulting
+   * {@link IllegalArgumentException} reports all of them. Lists converted
+   * in parallel are converted in full rather than on first access.
+   *
+   * The thread that reads a property converts elements too, and waits only
+   * for elements that the executor's threads have begun converting; so a
+   * bounded executor whose threads are all busy, or one that rejects tasks,
+   * slows conversion down but does not stall it.
+   *
+   * @param threshold the least number of elements to convert in parallel
+   * @param executor runs the conversions
+   * @return self
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   * @throws NullPointerException if {@code executor} is {@code null}
+   */
+  public PropertyBinder<T> convertingInParallel(
+    int threshold,
+    Executor executor) {
+
+    conversionOptions =
+      conversionOptions.withParallelism(threshold, executor);
     return this;
   }
 
   /**
    * Makes a new proxy bound to the properties purported to be in the given
-   * input reader.
+   * input reader. A property's value is substituted the first time it is
+   * read, and kept.
    *
    * @param propertyInput a reader containing properties to be bound
    * @return a proxy bound to the properties
@@ -163,7 +293,23 @@ public class PropertyBinder<T> {
    * @throws NullPointerException if {@code propertyInput} is {@code null}
    */
   public T bind(Reader propertyInput) throws IOException {
-    return evaluate(loadProperties(propertyInput));
+    return evaluate(CompactPropertySource.read(propertyInput));
+  }
+
+  /**
+   * Makes a new proxy bound to the properties in the given file. The file
+   * is decoded as UTF-8, or as ISO-8859-1 if it is not valid UTF-8.
+   *
+   * References among property values are substituted as for
+   * {@link #bind(Reader)}.
+   *
+   * @param propertiesFile a file containing properties to be bound
+   * @return a proxy bound to the properties
+   * @throws IOException if there is a problem reading from the file
+   * @throws NullPointerException if {@code propertiesFile} is {@code null}
+   */
+  public T bind(Path propertiesFile) throws IOException {
+    return evaluate(CompactPropertySource.read(propertiesFile));
   }
 
   /**
@@ -224,6 +370,104 @@ public class PropertyBinder<T> {
     return evaluate(source);
   }
 
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the properties purported to be in the given
+   * input reader.
+   *
+   * @param propertyInput a reader containing properties to be bound
+   * @return a proxy bound to a snapshot of the properties
+   * @throws IOException if there is a problem reading from the reader
+   * @throws NullPointerException if {@code propertyInput} is {@code null}
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted, or if its value refers to itself through references
+   * @see #bindSnapshot(PropertySource)
+   */
+  public T bindSnapshot(Reader propertyInput) throws IOException {
+    return evaluateSnapshot(CompactPropertySource.read(propertyInput));
+  }
+
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the properties in the given file. The file
+   * is decoded as UTF-8, or as ISO-8859-1 if it is not valid UTF-8.
+   *
+   * @param propertiesFile a file containing properties to be bound
+   * @return a proxy bound to a snapshot of the properties
+   * @throws IOException if there is a problem reading from the file
+   * @throws NullPointerException if {@code propertiesFile} is {@code null}
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted, or if its value refers to itself through references
+   * @see #bindSnapshot(PropertySource)
+   */
+  public T bindSnapshot(Path propertiesFile) throws IOException {
+    return evaluateSnapshot(CompactPropertySource.read(propertiesFile));
+  }
+
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the given properties.
+   *
+   * @param properties the properties to be bound
+   * @return a proxy bound to a snapshot of the properties
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted, or if its value refers to itself through references
+   * @see #bindSnapshot(PropertySource)
+   */
+  public T bindSnapshot(Properties properties) {
+    return evaluateSnapshot(new SubstitutableProperties(properties));
+  }
+
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the given map.
+   *
+   * @param properties the properties to be bound
+   * @return a proxy bound to a snapshot of the properties
+   * @throws NullPointerException if {@code properties} is {@code null}
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted, or if its value refers to itself through references
+   * @see #bindSnapshot(PropertySource)
+   */
+  public T bindSnapshot(Map<String, ?> properties) {
+    return evaluateSnapshot(new MapPropertySource(properties));
+  }
+
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the given resource bundle.
+   *
+   * @param bundle the bundle to be bound
+   * @return a proxy bound to a snapshot of the bundle
+   * @throws NullPointerException if {@code bundle} is {@code null}
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted
+   * @see #bindSnapshot(PropertySource)
+   */
+  public T bindSnapshot(ResourceBundle bundle) {
+    return evaluateSnapshot(new ResourceBundlePropertySource(bundle));
+  }
+
+  /**
+   * Makes a new proxy whose zero-arg accessors answer values converted
+   * once, at bind time, from the given property source.
+   *
+   * Conversion errors for zero-arg properties surface here rather than
+   * when the accessors are called. Later changes to the property source
+   * do not affect zero-arg accessors; accessors that take arguments still
+   * consult the property source on every call. Arrays are copied on every
+   * call; lists are unmodifiable.
+   *
+   * @param source the property source to be bound
+   * @return a proxy bound to a snapshot of the property source
+   * @throws NullPointerException if {@code source} is {@code null}
+   * @throws IllegalArgumentException if any zero-arg property cannot be
+   * converted
+   */
+  public T bindSnapshot(PropertySource source) {
+    return evaluateSnapshot(source);
+  }
+
   /**
    * Makes a new proxy bound to a snapshot of the current
    * {@linkplain System#getProperties() system properties}.
@@ -235,15 +479,13 @@ public class PropertyBinder<T> {
   }
 
   private T evaluate(PropertySource source) {
-    T mapped = schema.evaluate(source);
-    return schema.validate(mapped);
+    T mapped =
+      schema.evaluate(source, validator, memoized, conversionOptions);
+    return schema.validate(mapped, validator);
   }
 
-  private static PropertySource loadProperties(Reader input)
-    throws IOException {
-
-    SubstitutableProperties properties = new SubstitutableProperties();
-    properties.load(input);
-    return properties;
+  private T evaluateSnapshot(PropertySource source) {
+    T mapped = schema.snapshot(source, validator, conversionOptions);
+    return schema.validate(mapped, validator);
   }
 }
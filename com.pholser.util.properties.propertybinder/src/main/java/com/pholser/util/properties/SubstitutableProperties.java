@@ -25,10 +25,25 @@
 
 package com.pholser.util.properties;
 
+import com.google.common.collect.ForwardingCollection;
+import com.google.common.collect.ForwardingIterator;
+import com.google.common.collect.ForwardingMapEntry;
+import com.google.common.collect.ForwardingSet;
+import com.pholser.util.properties.internal.SubstitutionGraph;
+import com.pholser.util.properties.internal.SubstitutionIndex;
+import com.pholser.util.properties.internal.SubstitutionTemplates;
+
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-import static com.pholser.util.properties.internal.Substitutions.substitute;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -36,6 +51,11 @@ import static java.util.stream.Collectors.joining;
  * of the values of other properties. Such values specify other property
  * keys delimited by {@code [} and {@code ]}.
  *
+ * Substituted values are cached. Changing a property evicts the cached
+ * values that refer to it, directly or transitively, and nothing else. A
+ * cached value that drew on the defaults is used only while the defaults
+ * it drew on are unchanged.
+ *
  * Inspired by
  * <a href="http://www2.sys-con.com/ITSG/virtualcd/Java/archives/0612/mair/index.html">
  * Enabling Constant Substitution in Property Values</a>.
@@ -46,6 +66,9 @@ public class SubstitutableProperties
 
   private static final long serialVersionUID = 1L;
 
+  private transient volatile SubstitutionIndex index;
+  private transient SubstitutionTemplates templates;
+
   /**
    * Creates an empty substitutable properties set.
    */
@@ -70,7 +93,212 @@ public class SubstitutableProperties
   }
 
   @Override public String getProperty(String key) {
-    return substitute(this, super.getProperty(key));
+    if (!Thread.holdsLock(this)) {
+      String cached = index().cached(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    synchronized (this) {
+      return index().resolve(key, this::substituteRaw);
+    }
+  }
+
+  @Override public synchronized Object put(Object key, Object value) {
+    Object previous = super.put(key, value);
+    invalidate(key);
+    return previous;
+  }
+
+  @Override public synchronized void putAll(Map<?, ?> t) {
+    super.putAll(t);
+    t.keySet().forEach(this::invalidate);
+  }
+
+  @Override public synchronized Object putIfAbsent(Object key, Object value) {
+    Object previous = super.putIfAbsent(key, value);
+    invalidate(key);
+    return previous;
+  }
+
+  @Override public synchronized Object remove(Object key) {
+    Object previous = super.remove(key);
+    invalidate(key);
+    return previous;
+  }
+
+  @Override public synchronized boolean remove(Object key, Object value) {
+    boolean removed = super.remove(key, value);
+    invalidate(key);
+    return removed;
+  }
+
+  @Override public synchronized Object replace(Object key, Object value) {
+    Object previous = super.replace(key, value);
+    invalidate(key);
+    return previous;
+  }
+
+  @Override public synchronized boolean replace(
+    Object key,
+    Object oldValue,
+    Object newValue) {
+
+    boolean replaced = super.replace(key, oldValue, newValue);
+    invalidate(key);
+    return replaced;
+  }
+
+  @Override public synchronized void replaceAll(
+    BiFunction<? super Object, ? super Object, ?> function) {
+
+    super.replaceAll(function);
+    invalidateAll();
+  }
+
+  @Override public synchronized Object compute(
+    Object key,
+    BiFunction<? super Object, ? super Object, ?> remapping) {
+
+    Object computed = super.compute(key, remapping);
+    invalidate(key);
+    return computed;
+  }
+
+  @Override public synchronized Object computeIfAbsent(
+    Object key,
+    Function<? super Object, ?> mapping) {
+
+    Object computed = super.computeIfAbsent(key, mapping);
+    invalidate(key);
+    return computed;
+  }
+
+  @Override public synchronized Object computeIfPresent(
+    Object key,
+    BiFunction<? super Object, ? super Object, ?> remapping) {
+
+    Object computed = super.computeIfPresent(key, remapping);
+    invalidate(key);
+    return computed;
+  }
+
+  @Override public synchronized Object merge(
+    Object key,
+    Object value,
+    BiFunction<? super Object, ? super Object, ?> remapping) {
+
+    Object merged = super.merge(key, value, remapping);
+    invalidate(key);
+    return merged;
+  }
+
+  @Override public synchronized void clear() {
+    super.clear();
+    invalidateAll();
+  }
+
+  @Override public Set<Object> keySet() {
+    return new InvalidatingSet<>(super.keySet());
+  }
+
+  @Override public Set<Map.Entry<Object, Object>> entrySet() {
+    return new InvalidatingEntrySet(super.entrySet());
+  }
+
+  @Override public Collection<Object> values() {
+    return new InvalidatingCollection<>(super.values());
+  }
+
+  @Override public synchronized Object clone() {
+    SubstitutableProperties clone = (SubstitutableProperties) super.clone();
+    clone.index = null;
+    clone.templates = null;
+    return clone;
+  }
+
+  /**
+   * Gives every property in this set, including defaults, with all of its
+   * property references substituted. Values are resolved in dependency
+   * order, so each is expanded only once.
+   *
+   * @return an unmodifiable map of property keys to substituted values
+   * @throws IllegalArgumentException if any property value refers,
+   * directly or indirectly, to itself
+   */
+  public Map<String, String> resolved() {
+    return SubstitutionGraph.of(rawValues()).resolve();
+  }
+
+  private Map<String, String> rawValues() {
+    Map<String, String> raw = new HashMap<>();
+    stringPropertyNames().forEach(p -> raw.put(p, rawValue(this, p)));
+    return raw;
+  }
+
+  private static String rawValue(Properties source, String key) {
+    if (source instanceof SubstitutableProperties) {
+      SubstitutableProperties substitutable =
+        (SubstitutableProperties) source;
+      Object value = substitutable.get(key);
+      if (value instanceof String) {
+        return (String) value;
+      }
+
+      return substitutable.defaults == null
+        ? null
+        : rawValue(substitutable.defaults, key);
+    }
+
+    return source.getProperty(key);
+  }
+
+  private String substituteRaw(String key) {
+    Object value = super.get(key);
+    if (value instanceof String) {
+      return templates().substitute(this, key, (String) value);
+    }
+
+    return defaults == null
+      ? null
+      : templates().substitute(this, key, index().fallBackTo(key));
+  }
+
+  private SubstitutionTemplates templates() {
+    // only called while holding this object's lock
+    if (templates == null) {
+      templates = new SubstitutionTemplates();
+    }
+    return templates;
+  }
+
+  private String defaultValue(String key) {
+    Properties current = defaults;
+    return current == null ? null : current.getProperty(key);
+  }
+
+  private SubstitutionIndex index() {
+    SubstitutionIndex current = index;
+    if (current == null) {
+      synchronized (this) {
+        if (index == null) {
+          index = new SubstitutionIndex(this::defaultValue);
+        }
+        current = index;
+      }
+    }
+    return current;
+  }
+
+  private synchronized void invalidate(Object key) {
+    if (key != null) {
+      index().invalidate(key);
+    }
+  }
+
+  private synchronized void invalidateAll() {
+    index().invalidateAll();
   }
 
   @Override public synchronized String toString() {
@@ -81,4 +309,175 @@ public class SubstitutableProperties
         .collect(joining(", "))
       + '}';
   }
+
+  private class InvalidatingSet<E> extends ForwardingSet<E> {
+    private final Set<E> delegate;
+
+    InvalidatingSet(Set<E> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override protected Set<E> delegate() {
+      return delegate;
+    }
+
+    @Override public Iterator<E> iterator() {
+      return new InvalidatingIterator<>(delegate.iterator());
+    }
+
+    @Override public boolean remove(Object o) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.remove(o);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean removeAll(Collection<?> c) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.removeAll(c);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean retainAll(Collection<?> c) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.retainAll(c);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean removeIf(Predicate<? super E> filter) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.removeIf(filter);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public void clear() {
+      synchronized (SubstitutableProperties.this) {
+        delegate.clear();
+        invalidateAll();
+      }
+    }
+  }
+
+  private final class InvalidatingEntrySet
+    extends InvalidatingSet<Map.Entry<Object, Object>> {
+
+    InvalidatingEntrySet(Set<Map.Entry<Object, Object>> delegate) {
+      super(delegate);
+    }
+
+    @Override public Iterator<Map.Entry<Object, Object>> iterator() {
+      return new InvalidatingIterator<Map.Entry<Object, Object>>(
+        delegate().iterator()) {
+
+        @Override public Map.Entry<Object, Object> next() {
+          return new InvalidatingEntry(super.next());
+        }
+      };
+    }
+  }
+
+  private final class InvalidatingEntry
+    extends ForwardingMapEntry<Object, Object> {
+
+    private final Map.Entry<Object, Object> delegate;
+
+    InvalidatingEntry(Map.Entry<Object, Object> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override protected Map.Entry<Object, Object> delegate() {
+      return delegate;
+    }
+
+    @Override public Object setValue(Object value) {
+      synchronized (SubstitutableProperties.this) {
+        Object previous = delegate.setValue(value);
+        invalidate(delegate.getKey());
+        return previous;
+      }
+    }
+  }
+
+  private final class InvalidatingCollection<E>
+    extends ForwardingCollection<E> {
+
+    private final Collection<E> delegate;
+
+    InvalidatingCollection(Collection<E> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override protected Collection<E> delegate() {
+      return delegate;
+    }
+
+    @Override public Iterator<E> iterator() {
+      return new InvalidatingIterator<>(delegate.iterator());
+    }
+
+    @Override public boolean remove(Object o) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.remove(o);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean removeAll(Collection<?> c) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.removeAll(c);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean retainAll(Collection<?> c) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.retainAll(c);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public boolean removeIf(Predicate<? super E> filter) {
+      synchronized (SubstitutableProperties.this) {
+        boolean changed = delegate.removeIf(filter);
+        invalidateAll();
+        return changed;
+      }
+    }
+
+    @Override public void clear() {
+      synchronized (SubstitutableProperties.this) {
+        delegate.clear();
+        invalidateAll();
+      }
+    }
+  }
+
+  private class InvalidatingIterator<E> extends ForwardingIterator<E> {
+    private final Iterator<E> delegate;
+
+    InvalidatingIterator(Iterator<E> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override protected Iterator<E> delegate() {
+      return delegate;
+    }
+
+    @Override public void remove() {
+      synchronized (SubstitutableProperties.this) {
+        delegate.remove();
+        invalidateAll();
+      }
+    }
+  }
 }
@@ -49,6 +49,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * It is illegal to specify both {@code pattern} and {@code valueOf}
  * at the same time with values other than the default.
  *
+ * For {@link java.util.Map}-typed properties, the separator divides the
+ * value into entries, and {@link #keyValuePattern()} divides each entry
+ * into a key and a value.
+ *
  * @see BoundProperty
  */
 @Documented
@@ -67,4 +71,11 @@ public @interface ValuesSeparatedBy {
    * a separator to be used on values of a given property
    */
   String valueOf() default "";
+
+  /**
+   * @return a {@linkplain java.util.regex.Pattern regular expression}
+   * specifying a separator between the key and the value of each entry
+   * of a map-typed property; only its first match in an entry counts
+   */
+  String keyValuePattern() default "=";
 }
@@ -98,6 +98,58 @@ public abstract class Conversion<V> {
   public abstract V convert(String value, List<String> patterns)
     throws IllegalArgumentException;
 
+  /**
+   * Tells, without throwing, whether this conversion could convert the
+   * given value. Property binders do not call {@link #convert(String, List)}
+   * on a conversion that does not accept a value until every conversion
+   * that does accept it has failed.
+   *
+   * Override this when a cheap check can rule out values that
+   * {@link #convert(String, List)} would reject with an exception.
+   * Answering {@code true} does not oblige a conversion to succeed.
+   *
+   * @param value value to be converted
+   * @param patterns any patterns that could be used to perform the
+   * conversion
+   * @return whether the value is worth attempting to convert
+   */
+  public boolean accepts(String value, List<String> patterns) {
+    return true;
+  }
+
+  /**
+   * Readies this conversion to convert many values using the given
+   * patterns. Property binders call this once per bound property, after
+   * resolving its patterns, and use the resulting parser for every read of
+   * the property.
+   *
+   * Override this when a conversion can do work up front that
+   * {@link #convert(String, List)} would otherwise repeat on every call,
+   * such as compiling its patterns. By default, the parser delegates to
+   * {@link #accepts(String, List)} and {@link #convert(String, List)}.
+   *
+   * @param patterns any patterns that could be used to perform the
+   * conversion
+   * @return a thread-safe parser for values
+   * @throws IllegalArgumentException if the patterns are unusable; property
+   * binders then fall back to calling {@link #convert(String, List)}, so
+   * that the problem is reported when a value is converted
+   */
+  public Parser<V> prepare(List<String> patterns)
+    throws IllegalArgumentException {
+
+    List<String> fixed = unmodifiableList(new ArrayList<>(patterns));
+    return new Parser<V>() {
+      @Override public V parse(String value) {
+        return convert(value, fixed);
+      }
+
+      @Override public boolean accepts(String value) {
+        return Conversion.this.accepts(value, fixed);
+      }
+    };
+  }
+
   public final List<TypeToken<V>> valueTypes() {
     return unmodifiableList(valueTypes);
   }
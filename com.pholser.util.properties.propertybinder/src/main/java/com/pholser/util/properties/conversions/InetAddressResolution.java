@@ -0,0 +1,250 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.conversions;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Resolves host names for properties of type {@link InetAddress}, caching
+ * each answer for a time-to-live.
+ *
+ * Property binders {@linkplain #prefetch(String) prefetch} the host names of
+ * {@code InetAddress}-typed properties when they bind, so that lookups run
+ * on the resolution's executor rather than on the thread that reads the
+ * property. A read that arrives before its lookup has finished waits for it;
+ * one that arrives before its lookup has started performs the lookup itself.
+ *
+ * Once an answer's time-to-live has passed, the next read asks for it to be
+ * refreshed on the resolution's executor, and meanwhile answers the last
+ * address that resolved successfully, so that reads do not wait on name
+ * lookups. If a refresh fails, the last good address continues to be served,
+ * and the refresh is retried after another time-to-live. A host that has
+ * never resolved keeps its failure for a time-to-live as well, so that reads
+ * of it fail fast rather than look it up again.
+ *
+ * Unless told otherwise via
+ * {@link com.pholser.util.properties.PropertyBinder#resolvingAddressesWith},
+ * property binders use a resolution that resolves names via
+ * {@link InetAddress#getByName(String)} and keeps answers for thirty seconds.
+ */
+public final class InetAddressResolution {
+  /**
+   * A strategy for resolving host names.
+   */
+  @FunctionalInterface
+  public interface Resolver {
+    /**
+     * Resolves the given host name.
+     *
+     * @param host a host name or textual IP address
+     * @return the address of the host
+     * @throws UnknownHostException if the host cannot be resolved
+     */
+    InetAddress resolve(String host) throws UnknownHostException;
+  }
+
+  /** Resolves names via {@link InetAddress#getByName(String)}. */
+  public static final Resolver SYSTEM = InetAddress::getByName;
+
+  /** How long answers are kept by default. */
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+  private static final int MAXIMUM_CACHED_HOSTS = 1024;
+
+  private final Resolver resolver;
+  private final long timeToLiveNanos;
+  private final Executor refresher;
+  private final Cache<String, Entry> entries =
+    CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_CACHED_HOSTS)
+      .build();
+
+  /**
+   * Makes a new resolution that refreshes answers on the
+   * {@linkplain ForkJoinPool#commonPool() common pool}.
+   *
+   * @param resolver how to resolve host names
+   * @param timeToLive how long to keep answers before refreshing them
+   */
+  public InetAddressResolution(Resolver resolver, Duration timeToLive) {
+    this(resolver, timeToLive, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Makes a new resolution.
+   *
+   * @param resolver how to resolve host names
+   * @param timeToLive how long to keep answers before refreshing them
+   * @param refresher where to refresh answers whose time-to-live has passed
+   */
+  public InetAddressResolution(
+    Resolver resolver,
+    Duration timeToLive,
+    Executor refresher) {
+
+    this.resolver = requireNonNull(resolver, "null resolver");
+    requireNonNull(timeToLive, "null time-to-live");
+    if (timeToLive.isNegative()) {
+      throw new IllegalArgumentException(
+        "negative time-to-live: " + timeToLive);
+    }
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.refresher = requireNonNull(refresher, "null refresher");
+  }
+
+  /**
+   * Gives the address of the given host, from cache if possible.
+   *
+   * @param host a host name or textual IP address
+   * @return the address of the host
+   * @throws UnknownHostException if the host has never been resolved
+   * successfully
+   */
+  public InetAddress resolve(String host) throws UnknownHostException {
+    Entry entry = entryFor(host);
+    Answer answer = entry.answer();
+    if (answer.isStale(timeToLiveNanos)) {
+      entry.refresh(answer);
+      answer = entry.latest;
+    }
+
+    return answer.address();
+  }
+
+  /**
+   * Starts looking up the given host on this resolution's executor, unless
+   * it has been looked up already. Does not wait for the lookup.
+   *
+   * @param host a host name or textual IP address
+   */
+  public void prefetch(String host) {
+    Entry entry = entryFor(host);
+    if (!entry.claimed.get()) {
+      try {
+        refresher.execute(entry::lookUpFirst);
+      } catch (RuntimeException ex) {
+        // the first read looks the host up instead
+      }
+    }
+  }
+
+  private Entry entryFor(String host) {
+    return entries.asMap().computeIfAbsent(host, Entry::new);
+  }
+
+  private final class Entry {
+    final String host;
+    final AtomicBoolean claimed = new AtomicBoolean();
+    final CompletableFuture<Answer> first = new CompletableFuture<>();
+    final AtomicBoolean refreshing = new AtomicBoolean();
+    volatile Answer latest;
+
+    Entry(String host) {
+      this.host = host;
+    }
+
+    Answer answer() {
+      Answer current = latest;
+      if (current != null) {
+        return current;
+      }
+
+      // Look the host up here unless another thread already is.
+      lookUpFirst();
+      return first.join();
+    }
+
+    void lookUpFirst() {
+      if (claimed.compareAndSet(false, true)) {
+        Answer answer = lookUp(null);
+        latest = answer;
+        first.complete(answer);
+      }
+    }
+
+    void refresh(Answer stale) {
+      if (!refreshing.compareAndSet(false, true)) {
+        return;
+      }
+
+      try {
+        refresher.execute(() -> {
+          latest = lookUp(stale);
+          refreshing.set(false);
+        });
+      } catch (RuntimeException ex) {
+        refreshing.set(false);
+      }
+    }
+
+    private Answer lookUp(Answer previous) {
+      try {
+        return new Answer(resolver.resolve(host), null);
+      } catch (UnknownHostException | RuntimeException ex) {
+        // keep serving the last good address; retry after another TTL
+        return previous != null && previous.address != null
+          ? new Answer(previous.address, null)
+          : new Answer(null, ex);
+      }
+    }
+  }
+
+  private static final class Answer {
+    final InetAddress address;
+    final Exception failure;
+    final long resolvedAt = System.nanoTime();
+
+    Answer(InetAddress address, Exception failure) {
+      this.address = address;
+      this.failure = failure;
+    }
+
+    InetAddress address() throws UnknownHostException {
+      if (failure instanceof UnknownHostException) {
+        throw (UnknownHostException) failure;
+      }
+      if (failure != null) {
+        throw (RuntimeException) failure;
+      }
+      return address;
+    }
+
+    boolean isStale(long timeToLiveNanos) {
+      return System.nanoTime() - resolvedAt >= timeToLiveNanos;
+    }
+  }
+}
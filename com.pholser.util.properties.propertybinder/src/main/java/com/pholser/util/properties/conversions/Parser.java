@@ -0,0 +1,145 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.conversions;
+
+/**
+ * A converter of property values prepared by a {@link Conversion} for a
+ * fixed list of patterns.
+ *
+ * Property binders ask for a parser once per bound property, after the
+ * property's patterns have been resolved, and then reuse it for every read
+ * of that property. Parsers must therefore be safe to use from many threads
+ * at once.
+ *
+ * @param <V> the target type for the conversion
+ * @see Conversion#prepare(java.util.List)
+ */
+@FunctionalInterface
+public interface Parser<V> {
+  /**
+   * Converts the given value to another type.
+   *
+   * @param value value to be converted
+   * @return the converted value
+   * @throws IllegalArgumentException if problems occurs while converting
+   */
+  V parse(String value) throws IllegalArgumentException;
+
+  /**
+   * Tells, without throwing, whether this parser could convert the given
+   * value.
+   *
+   * @param value value to be converted
+   * @return whether the value is worth attempting to convert
+   * @see Conversion#accepts(String, java.util.List)
+   */
+  default boolean accepts(String value) {
+    return true;
+  }
+
+  /**
+   * A parser of {@code int} values. Property binders call
+   * {@link #parseInt(String)} for the elements of {@code int[]} properties
+   * and the values of {@link java.util.OptionalInt} ones.
+   */
+  @FunctionalInterface
+  interface OfInt extends Parser<Integer> {
+    /**
+     * Converts the given value to an {@code int}.
+     *
+     * @param value value to be converted
+     * @return the converted value
+     * @throws IllegalArgumentException if problems occurs while converting
+     */
+    int parseInt(String value) throws IllegalArgumentException;
+
+    @Override default Integer parse(String value) {
+      return parseInt(value);
+    }
+  }
+
+  /**
+   * A parser of {@code long} values, such as the elements of
+   * {@code long[]} properties and the values of
+   * {@link java.util.OptionalLong} ones.
+   */
+  @FunctionalInterface
+  interface OfLong extends Parser<Long> {
+    /**
+     * Converts the given value to a {@code long}.
+     *
+     * @param value value to be converted
+     * @return the converted value
+     * @throws IllegalArgumentException if problems occurs while converting
+     */
+    long parseLong(String value) throws IllegalArgumentException;
+
+    @Override default Long parse(String value) {
+      return parseLong(value);
+    }
+  }
+
+  /**
+   * A parser of {@code double} values. Elements of {@code double[]} and
+   * values of {@link java.util.OptionalDouble} properties go through
+   * {@link #parseDouble(String)} unboxed.
+   */
+  @FunctionalInterface
+  interface OfDouble extends Parser<Double> {
+    /**
+     * Converts the given value to a {@code double}.
+     *
+     * @param value value to be converted
+     * @return the converted value
+     * @throws IllegalArgumentException if problems occurs while converting
+     */
+    double parseDouble(String value) throws IllegalArgumentException;
+
+    @Override default Double parse(String value) {
+      return parseDouble(value);
+    }
+  }
+
+  /**
+   * A parser of {@code boolean} values. The elements of {@code boolean[]}
+   * properties go through {@link #parseBoolean(String)}.
+   */
+  @FunctionalInterface
+  interface OfBoolean extends Parser<Boolean> {
+    /**
+     * Converts the given value to a {@code boolean}.
+     *
+     * @param value value to be converted
+     * @return the converted value
+     * @throws IllegalArgumentException if problems occurs while converting
+     */
+    boolean parseBoolean(String value) throws IllegalArgumentException;
+
+    @Override default Boolean parse(String value) {
+      return parseBoolean(value);
+    }
+  }
+}
@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.lang;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.util.List;
 
@@ -39,4 +40,8 @@ public class BooleanConversion extends Conversion<Boolean> {
   @Override public Boolean convert(String value, List<String> patterns) {
     return Boolean.valueOf(value);
   }
+
+  @Override public Parser.OfBoolean prepare(List<String> patterns) {
+    return Boolean::parseBoolean;
+  }
 }
@@ -36,6 +36,10 @@ public class CharacterConversion extends Conversion<Character> {
     super(asList(char.class, Character.class));
   }
 
+  @Override public boolean accepts(String value, List<String> patterns) {
+    return value.length() == 1;
+  }
+
   @Override public Character convert(String value, List<String> patterns) {
     if (value.length() != 1) {
       throw new IllegalArgumentException(
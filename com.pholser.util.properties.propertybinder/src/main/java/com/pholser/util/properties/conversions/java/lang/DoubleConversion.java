@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.lang;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.util.List;
 
@@ -39,4 +40,8 @@ public class DoubleConversion extends Conversion<Double> {
   @Override public Double convert(String value, List<String> patterns) {
     return Double.valueOf(value);
   }
+
+  @Override public Parser.OfDouble prepare(List<String> patterns) {
+    return Double::parseDouble;
+  }
 }
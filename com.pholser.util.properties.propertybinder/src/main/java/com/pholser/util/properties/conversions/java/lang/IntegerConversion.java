@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.lang;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.util.List;
 
@@ -39,4 +40,8 @@ public class IntegerConversion extends Conversion<Integer> {
   @Override public Integer convert(String value, List<String> patterns) {
     return Integer.valueOf(value);
   }
+
+  @Override public Parser.OfInt prepare(List<String> patterns) {
+    return Integer::parseInt;
+  }
 }
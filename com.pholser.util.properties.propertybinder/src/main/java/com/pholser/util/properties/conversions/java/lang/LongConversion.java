@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.lang;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.util.List;
 
@@ -39,4 +40,8 @@ public class LongConversion extends Conversion<Long> {
   @Override public Long convert(String value, List<String> patterns) {
     return Long.valueOf(value);
   }
+
+  @Override public Parser.OfLong prepare(List<String> patterns) {
+    return Long::parseLong;
+  }
 }
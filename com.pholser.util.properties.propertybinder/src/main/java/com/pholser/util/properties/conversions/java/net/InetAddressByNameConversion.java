@@ -26,19 +26,25 @@
 package com.pholser.util.properties.conversions.java.net;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.InetAddressResolution;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
 
 public class InetAddressByNameConversion extends Conversion<InetAddress> {
+  private final InetAddressResolution resolution =
+    new InetAddressResolution(
+      InetAddressResolution.SYSTEM,
+      InetAddressResolution.DEFAULT_TIME_TO_LIVE);
+
   public InetAddressByNameConversion() {
     super(InetAddress.class);
   }
 
   @Override public InetAddress convert(String value, List<String> patterns) {
     try {
-      return InetAddress.getByName(value);
+      return resolution.resolve(value);
     } catch (UnknownHostException | SecurityException ex) {
       throw new IllegalArgumentException(ex);
     }
@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.text;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.text.SimpleDateFormat;
 import java.util.List;
@@ -41,4 +42,22 @@ public class SimpleDateFormatConversion extends Conversion<SimpleDateFormat> {
 
     return new SimpleDateFormat(value);
   }
+
+  @Override public Parser<SimpleDateFormat> prepare(List<String> patterns) {
+    return new Parser<SimpleDateFormat>() {
+      // Formats are mutable, so every read gets its own copy of the format
+      // compiled for the most recently read value.
+      private volatile SimpleDateFormat last;
+
+      @Override public SimpleDateFormat parse(String value) {
+        SimpleDateFormat prototype = last;
+        if (prototype == null || !prototype.toPattern().equals(value)) {
+          prototype = new SimpleDateFormat(value);
+          last = prototype;
+        }
+
+        return (SimpleDateFormat) prototype.clone();
+      }
+    };
+  }
 }
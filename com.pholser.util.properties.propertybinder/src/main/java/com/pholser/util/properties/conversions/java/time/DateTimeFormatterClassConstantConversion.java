@@ -28,25 +28,47 @@ package com.pholser.util.properties.conversions.java.time;
 import com.pholser.util.properties.conversions.Conversion;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
 
 public class DateTimeFormatterClassConstantConversion
   extends Conversion<DateTimeFormatter> {
 
+  private static final Map<String, DateTimeFormatter> CONSTANTS =
+    Arrays.stream(DateTimeFormatter.class.getFields())
+      .filter(f -> Modifier.isStatic(f.getModifiers()))
+      .filter(f -> f.getType() == DateTimeFormatter.class)
+      .collect(toMap(Field::getName, f -> {
+        try {
+          return (DateTimeFormatter) f.get(null);
+        } catch (IllegalAccessException ex) {
+          throw new AssertionError(ex);
+        }
+      }));
+
   public DateTimeFormatterClassConstantConversion() {
     super(DateTimeFormatter.class);
   }
 
+  @Override public boolean accepts(String value, List<String> patterns) {
+    return CONSTANTS.containsKey(value);
+  }
+
   @Override public DateTimeFormatter convert(
     String value,
     List<String> patterns) {
 
-    try {
-      Field constant = DateTimeFormatter.class.getField(value);
-      return (DateTimeFormatter) constant.get(null);
-    } catch (NoSuchFieldException | IllegalAccessException ex) {
-      throw new IllegalArgumentException(ex);
+    DateTimeFormatter constant = CONSTANTS.get(value);
+    if (constant == null) {
+      throw new IllegalArgumentException(
+        "No constant named [" + value + "] in " + DateTimeFormatter.class);
     }
+
+    return constant;
   }
 }
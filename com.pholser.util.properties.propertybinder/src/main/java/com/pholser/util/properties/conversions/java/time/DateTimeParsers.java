@@ -0,0 +1,111 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.conversions.java.time;
+
+import com.pholser.util.properties.conversions.Parser;
+
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/*
+ * Parsers of one java.time type, prepared once per list of patterns and
+ * kept for the conversion that owns them.
+ */
+final class DateTimeParsers<T> {
+  private static final int MAXIMUM_PREPARED = 256;
+
+  private final Function<CharSequence, T> isoParse;
+  private final TemporalQuery<T> query;
+  private final Map<List<String>, Parser<T>> prepared =
+    new ConcurrentHashMap<>();
+
+  DateTimeParsers(Function<CharSequence, T> isoParse, TemporalQuery<T> query) {
+    this.isoParse = isoParse;
+    this.query = query;
+  }
+
+  Parser<T> parserFor(List<String> patterns) {
+    Parser<T> parser = prepared.get(patterns);
+    if (parser == null) {
+      List<String> key = unmodifiableList(new ArrayList<>(patterns));
+      parser = prepare(key);
+      if (prepared.size() < MAXIMUM_PREPARED) {
+        prepared.putIfAbsent(key, parser);
+      }
+    }
+    return parser;
+  }
+
+  private Parser<T> prepare(List<String> patterns) {
+    if (patterns.isEmpty()) {
+      return isoParse::apply;
+    }
+
+    List<Format> formats =
+      patterns.stream()
+        .map(p -> DateTimeFormatter.ofPattern(p).toFormat(query))
+        .collect(toList());
+
+    return value -> {
+      for (Format each : formats) {
+        T parsed = parse(each, value);
+        if (parsed != null) {
+          return parsed;
+        }
+      }
+
+      throw new IllegalArgumentException(
+        "Could not parse value [" + value
+          + "] using any of the patterns: " + patterns);
+    };
+  }
+
+  /*
+   * Lexes, resolves and queries the value in one pass, answering null
+   * rather than throwing if the format does not match the entire value or
+   * the value is not a valid date/time.
+   */
+  @SuppressWarnings("unchecked")
+  private T parse(Format format, String value) {
+    ParsePosition position = new ParsePosition(0);
+    Object parsed = format.parseObject(value, position);
+    return parsed != null
+      && position.getErrorIndex() < 0
+      && position.getIndex() == value.length()
+      ? (T) parsed
+      : null;
+  }
+}
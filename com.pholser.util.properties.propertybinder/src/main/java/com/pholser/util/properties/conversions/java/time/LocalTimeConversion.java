@@ -26,32 +26,24 @@
 package com.pholser.util.properties.conversions.java.time;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 
 public class LocalTimeConversion extends Conversion<LocalTime> {
+  private final DateTimeParsers<LocalTime> parsers =
+    new DateTimeParsers<>(LocalTime::parse, LocalTime::from);
+
   public LocalTimeConversion() {
     super(LocalTime.class);
   }
 
   @Override public LocalTime convert(String value, List<String> patterns) {
-    if (patterns.isEmpty()) {
-      return LocalTime.parse(value);
-    }
-
-    for (String each : patterns) {
-      try {
-        return LocalTime.parse(value, DateTimeFormatter.ofPattern(each));
-      } catch (DateTimeParseException ex) {
-        // try the next pattern
-      }
-    }
-
-    throw new IllegalArgumentException(
-      "Could not parse value [" + value
-        + "] using any of the patterns: " + patterns);
+    return parsers.parserFor(patterns).parse(value);
+  }
+
+  @Override public Parser<LocalTime> prepare(List<String> patterns) {
+    return parsers.parserFor(patterns);
   }
 }
@@ -26,32 +26,24 @@
 package com.pholser.util.properties.conversions.java.time;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.time.MonthDay;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 
 public class MonthDayConversion extends Conversion<MonthDay> {
+  private final DateTimeParsers<MonthDay> parsers =
+    new DateTimeParsers<>(MonthDay::parse, MonthDay::from);
+
   public MonthDayConversion() {
     super(MonthDay.class);
   }
 
   @Override public MonthDay convert(String value, List<String> patterns) {
-    if (patterns.isEmpty()) {
-      return MonthDay.parse(value);
-    }
-
-    for (String each : patterns) {
-      try {
-        return MonthDay.parse(value, DateTimeFormatter.ofPattern(each));
-      } catch (DateTimeParseException ex) {
-        // try the next pattern
-      }
-    }
-
-    throw new IllegalArgumentException(
-      "Could not parse value [" + value
-        + "] using any of the patterns: " + patterns);
+    return parsers.parserFor(patterns).parse(value);
+  }
+
+  @Override public Parser<MonthDay> prepare(List<String> patterns) {
+    return parsers.parserFor(patterns);
   }
 }
@@ -26,32 +26,24 @@
 package com.pholser.util.properties.conversions.java.time;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.time.Year;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 
 public class YearConversion extends Conversion<Year> {
+  private final DateTimeParsers<Year> parsers =
+    new DateTimeParsers<>(Year::parse, Year::from);
+
   public YearConversion() {
     super(Year.class);
   }
 
   @Override public Year convert(String value, List<String> patterns) {
-    if (patterns.isEmpty()) {
-      return Year.parse(value);
-    }
-
-    for (String each : patterns) {
-      try {
-        return Year.parse(value, DateTimeFormatter.ofPattern(each));
-      } catch (DateTimeParseException ex) {
-        // try the next pattern
-      }
-    }
-
-    throw new IllegalArgumentException(
-      "Could not parse value [" + value
-        + "] using any of the patterns: " + patterns);
+    return parsers.parserFor(patterns).parse(value);
+  }
+
+  @Override public Parser<Year> prepare(List<String> patterns) {
+    return parsers.parserFor(patterns);
   }
 }
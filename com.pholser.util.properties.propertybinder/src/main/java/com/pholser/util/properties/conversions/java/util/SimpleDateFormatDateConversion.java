@@ -26,14 +26,24 @@
 package com.pholser.util.properties.conversions.java.util;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class SimpleDateFormatDateConversion extends Conversion<Date> {
+  // SimpleDateFormat is not thread-safe. Each pattern is compiled once; each
+  // thread parses with its own copy, shared by every property that uses
+  // the pattern.
+  private static final ConcurrentMap<String, ThreadLocal<DateFormat>>
+    FORMATS = new ConcurrentHashMap<>();
+
   public SimpleDateFormatDateConversion() {
     super(Date.class);
   }
@@ -43,14 +53,44 @@ public class SimpleDateFormatDateConversion extends Conversion<Date> {
       return new Date(value);
     }
 
+    return parse(value, formatsFor(patterns), patterns);
+  }
+
+  @Override public Parser<Date> prepare(List<String> patterns) {
+    if (patterns.isEmpty()) {
+      return super.prepare(patterns);
+    }
+
+    List<String> described = new ArrayList<>(patterns);
+    List<ThreadLocal<DateFormat>> formats = formatsFor(patterns);
+    return value -> parse(value, formats, described);
+  }
+
+  private static List<ThreadLocal<DateFormat>> formatsFor(
+    List<String> patterns) {
+
+    List<ThreadLocal<DateFormat>> formats = new ArrayList<>(patterns.size());
     for (String each : patterns) {
-      try {
-        DateFormat formatter = new SimpleDateFormat(each);
-        formatter.setLenient(false);
-        return formatter.parse(value);
-      } catch (ParseException ex) {
-        // try the next pattern
+      formats.add(FORMATS.computeIfAbsent(each, p -> {
+        DateFormat prototype = new SimpleDateFormat(p);
+        prototype.setLenient(false);
+        return ThreadLocal.withInitial(() -> (DateFormat) prototype.clone());
+      }));
+    }
+    return formats;
+  }
+
+  private static Date parse(
+    String value,
+    List<ThreadLocal<DateFormat>> formats,
+    List<String> patterns) {
+
+    for (ThreadLocal<DateFormat> each : formats) {
+      Date parsed = each.get().parse(value, new ParsePosition(0));
+      if (parsed != null) {
+        return parsed;
       }
+      // try the next pattern
     }
 
     throw new IllegalArgumentException(
@@ -26,6 +26,7 @@
 package com.pholser.util.properties.conversions.java.util.regex;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 
 import java.util.List;
 import java.util.regex.Pattern;
@@ -39,6 +40,11 @@ public class RegexConversion extends Conversion<Pattern> {
     return Pattern.compile(value, parseFlags(patterns));
   }
 
+  @Override public Parser<Pattern> prepare(List<String> patterns) {
+    int flags = parseFlags(patterns);
+    return value -> Pattern.compile(value, flags);
+  }
+
   private int parseFlags(List<String> patterns) {
     return patterns.stream()
       .mapToInt(this::flagForPatternFieldNamed)
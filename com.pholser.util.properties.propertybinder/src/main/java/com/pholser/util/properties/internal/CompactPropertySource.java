@@ -0,0 +1,294 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.PropertySource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable source of properties read once from input in the format of
+ * {@link java.util.Properties}. Keys and values live in parallel arrays,
+ * probed linearly from each key's hash, so reads take no locks. A value
+ * with {@code [reference]}s is substituted the first time it is read, and
+ * the result is kept; values that are never read are never substituted.
+ * {@link #toString()} reads every value, so it shows substituted values
+ * and, like reading, fails on a value that refers to itself.
+ */
+public final class CompactPropertySource implements PropertySource {
+  private final String[] keys;
+  private final String[] raw;
+  private final int size;
+  private final SubstitutionGraph graph;
+  private final Map<String, String> substituted = new ConcurrentHashMap<>();
+
+  private CompactPropertySource(Builder builder) {
+    this.keys = builder.keys;
+    this.raw = builder.values;
+    this.size = builder.size;
+    this.graph = SubstitutionGraph.of(new RawValues());
+  }
+
+  /**
+   * Reads properties from the given input.
+   *
+   * @param input a reader of properties
+   * @return a source of the properties read
+   * @throws IOException if there is a problem reading from {@code input}
+   * @throws IllegalArgumentException if the input contains a malformed
+   * {@code \\uxxxx} escape
+   */
+  public static CompactPropertySource read(Reader input) throws IOException {
+    requireNonNull(input, "null input");
+
+    char[] chars = new char[8192];
+    int length = 0;
+    int read;
+    while ((read = input.read(chars, length, chars.length - length)) >= 0) {
+      length += read;
+      if (length == chars.length) {
+        char[] grown = new char[chars.length * 2];
+        System.arraycopy(chars, 0, grown, 0, length);
+        chars = grown;
+      }
+    }
+
+    return parse(CharBuffer.wrap(chars, 0, length));
+  }
+
+  /**
+   * Reads properties from the given file. The file is decoded as UTF-8;
+   * if it is not valid UTF-8, it is decoded as ISO-8859-1 instead, as
+   * {@link java.util.PropertyResourceBundle} does.
+   *
+   * @param file a file of properties
+   * @return a source of the properties read
+   * @throws IOException if there is a problem reading from {@code file}
+   * @throws IllegalArgumentException if the file contains a malformed
+   * {@code \\uxxxx} escape
+   */
+  public static CompactPropertySource read(Path file) throws IOException {
+    requireNonNull(file, "null file");
+
+    ByteBuffer bytes;
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      long fileSize = channel.size();
+      if (fileSize > Integer.MAX_VALUE) {
+        throw new IOException(file + " is too large to read");
+      }
+
+      bytes = ByteBuffer.allocate((int) fileSize);
+      while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+        // keep reading until the buffer is full or the file ends
+      }
+      bytes.flip();
+    }
+
+    CharBuffer chars;
+    try {
+      chars =
+        UTF_8.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT)
+          .decode(bytes);
+    } catch (CharacterCodingException ex) {
+      bytes.rewind();
+      chars = ISO_8859_1.decode(bytes);
+    }
+
+    return parse(chars);
+  }
+
+  private static CompactPropertySource parse(CharBuffer chars) {
+    Builder builder = new Builder();
+    PropertiesParser.parse(
+      chars.array(),
+      chars.arrayOffset() + chars.position(),
+      chars.arrayOffset() + chars.limit(),
+      builder::put);
+    return new CompactPropertySource(builder);
+  }
+
+  @Override public Object propertyFor(BoundProperty key) {
+    int slot = slotOf(keys, key.value());
+    if (keys[slot] == null) {
+      return null;
+    }
+
+    return key.suppressSubstitution() ? raw[slot] : substitutedValueOf(slot);
+  }
+
+  /**
+   * @return how many properties this source holds
+   */
+  public int size() {
+    return size;
+  }
+
+  @Override public String toString() {
+    StringJoiner joined = new StringJoiner(", ", "{", "}");
+    for (int slot = 0; slot < keys.length; ++slot) {
+      if (keys[slot] != null) {
+        joined.add(keys[slot] + '=' + substitutedValueOf(slot));
+      }
+    }
+    return joined.toString();
+  }
+
+  private String substitutedValueOf(int slot) {
+    String value = raw[slot];
+    return value.indexOf('[') < 0
+      ? value
+      : graph.resolve(keys[slot], substituted);
+  }
+
+  /*
+   * Answers the slot holding the given key, or else the empty slot where
+   * it would go. Tables are never full, so probing always ends.
+   */
+  private static int slotOf(String[] keys, String key) {
+    int mask = keys.length - 1;
+    int h = key.hashCode();
+    int slot = (h ^ (h >>> 16)) & mask;
+    while (keys[slot] != null && !keys[slot].equals(key)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private static final class Builder {
+    private String[] keys = new String[64];
+    private String[] values = new String[64];
+    private int size;
+
+    void put(String key, String value) {
+      int slot = slotOf(keys, key);
+      if (keys[slot] == null) {
+        // keep the table at most half full
+        if (++size > keys.length / 2) {
+          grow();
+          slot = slotOf(keys, key);
+        }
+        keys[slot] = key;
+      }
+      values[slot] = value;
+    }
+
+    private void grow() {
+      String[] oldKeys = keys;
+      String[] oldValues = values;
+      keys = new String[oldKeys.length * 2];
+      values = new String[oldValues.length * 2];
+      for (int i = 0; i < oldKeys.length; ++i) {
+        if (oldKeys[i] != null) {
+          int slot = slotOf(keys, oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  /*
+   * The raw values, seen as a map for the substitution graph to walk.
+   */
+  private final class RawValues extends AbstractMap<String, String> {
+    @Override public String get(Object key) {
+      if (!(key instanceof String)) {
+        return null;
+      }
+
+      int slot = slotOf(keys, (String) key);
+      return keys[slot] == null ? null : raw[slot];
+    }
+
+    @Override public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override public int size() {
+      return size;
+    }
+
+    @Override public Set<Entry<String, String>> entrySet() {
+      return new AbstractSet<Entry<String, String>>() {
+        @Override public Iterator<Entry<String, String>> iterator() {
+          return new Iterator<Entry<String, String>>() {
+            private int slot = advance(0);
+
+            @Override public boolean hasNext() {
+              return slot < keys.length;
+            }
+
+            @Override public Entry<String, String> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+
+              Entry<String, String> entry =
+                new SimpleImmutableEntry<>(keys[slot], raw[slot]);
+              slot = advance(slot + 1);
+              return entry;
+            }
+
+            private int advance(int from) {
+              int next = from;
+              while (next < keys.length && keys[next] == null) {
+                ++next;
+              }
+              return next;
+            }
+          };
+        }
+
+        @Override public int size() {
+          return size;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.internal.validation.SchemaValidator;
+
+import java.util.ServiceLoader;
+
+public final class CompiledSchemas {
+  private static final ClassValue<Schema<?>> COMPILED =
+    new ClassValue<Schema<?>>() {
+      @Override protected Schema<?> computeValue(Class<?> schema) {
+        return SharedValidator.INSTANCE.validate(schema);
+      }
+    };
+
+  private CompiledSchemas() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static <T> Schema<T> compiledSchemaFor(Class<T> schema) {
+    @SuppressWarnings("unchecked")
+    Schema<T> compiled = (Schema<T>) COMPILED.get(schema);
+    return compiled;
+  }
+
+  private static final class SharedValidator {
+    // Conversions are discovered once, on first use, through the loader
+    // that defined Conversion itself -- not through the context loader
+    // of whichever thread happens to get here first.
+    static final SchemaValidator INSTANCE = create();
+
+    private static SchemaValidator create() {
+      @SuppressWarnings("rawtypes")
+      ServiceLoader<Conversion> loader =
+        ServiceLoader.load(Conversion.class, Conversion.class.getClassLoader());
+
+      return new SchemaValidator(loader.iterator());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+class DefaultMethodAccessor implements Accessor {
+  private final Method method;
+
+  private volatile MethodHandle handle;
+
+  DefaultMethodAccessor(Method method) {
+    this.method = method;
+  }
+
+  @Override public Object access(
+    Object proxy,
+    PropertyBinderInvocationHandler binding,
+    Object[] args)
+    throws Throwable {
+
+    Object[] receiverAndArgs =
+      new Object[1 + (args == null ? 0 : args.length)];
+    receiverAndArgs[0] = proxy;
+    if (args != null) {
+      System.arraycopy(args, 0, receiverAndArgs, 1, args.length);
+    }
+
+    return handle().invokeWithArguments(receiverAndArgs);
+  }
+
+  private MethodHandle handle() throws ReflectiveOperationException {
+    // Looked up lazily, so that schemas whose default methods cannot be
+    // reached still validate and bind.
+    MethodHandle result = handle;
+    if (result == null) {
+      result =
+        MethodHandles.lookup()
+          .findSpecial(
+            method.getDeclaringClass(),
+            method.getName(),
+            MethodType.methodType(
+              method.getReturnType(),
+              method.getParameterTypes()),
+            method.getDeclaringClass());
+      handle = result;
+    }
+
+    return result;
+  }
+}
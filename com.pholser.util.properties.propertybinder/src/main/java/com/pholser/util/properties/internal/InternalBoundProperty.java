@@ -31,9 +31,23 @@ import java.lang.annotation.Annotation;
 
 class InternalBoundProperty implements BoundProperty {
   private final String key;
+  private final boolean suppressSubstitution;
 
   InternalBoundProperty(String key) {
+    this(key, false);
+  }
+
+  private InternalBoundProperty(String key, boolean suppressSubstitution) {
     this.key = key;
+    this.suppressSubstitution = suppressSubstitution;
+  }
+
+  static BoundProperty copyOf(BoundProperty original) {
+    return original instanceof InternalBoundProperty
+      ? original
+      : new InternalBoundProperty(
+          original.value(),
+          original.suppressSubstitution());
   }
 
   @Override public String value() {
@@ -41,7 +55,7 @@ class InternalBoundProperty implements BoundProperty {
   }
 
   @Override public boolean suppressSubstitution() {
-    return false;
+    return suppressSubstitution;
   }
 
   @Override public Class<? extends Annotation> annotationType() {
@@ -0,0 +1,69 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers classes loaded by name, per class loader. Loaders are held
+ * weakly, and so are the classes, so that neither is kept from unloading.
+ */
+public final class LoadedClasses {
+  private static final ConcurrentMap<ClassLoader, Cache<String, Class<?>>>
+    BY_LOADER =
+      CacheBuilder.newBuilder()
+        .weakKeys()
+        .<ClassLoader, Cache<String, Class<?>>> build()
+        .asMap();
+  private static final Cache<String, Class<?>> BOOTSTRAP = newClassCache();
+
+  private LoadedClasses() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static Class<?> forName(String name, ClassLoader loader)
+    throws ClassNotFoundException {
+
+    Cache<String, Class<?>> classes =
+      loader == null
+        ? BOOTSTRAP
+        : BY_LOADER.computeIfAbsent(loader, l -> newClassCache());
+
+    Class<?> loaded = classes.getIfPresent(name);
+    if (loaded == null) {
+      loaded = Class.forName(name, true, loader);
+      classes.put(name, loaded);
+    }
+    return loaded;
+  }
+
+  private static Cache<String, Class<?>> newClassCache() {
+    return CacheBuilder.newBuilder().weakValues().build();
+  }
+}
@@ -30,11 +30,11 @@ import com.pholser.util.properties.PropertySource;
 
 import java.util.Map;
 
-import static com.pholser.util.properties.internal.Substitutions.maybeSubstitute;
 import static java.util.Objects.requireNonNull;
 
 public class MapPropertySource implements PropertySource {
   private final Map<String, ?> backing;
+  private final SubstitutionTemplates templates = new SubstitutionTemplates();
 
   public MapPropertySource(Map<String, ?> backing) {
     requireNonNull(backing, "null backing");
@@ -43,7 +43,7 @@ public class MapPropertySource implements PropertySource {
   }
 
   @Override public Object propertyFor(BoundProperty key) {
-    return maybeSubstitute(this, key, backing.get(key.value()));
+    return templates.maybeSubstitute(this, key, backing.get(key.value()));
   }
 
   @Override public String toString() {
@@ -0,0 +1,242 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import java.util.function.BiConsumer;
+
+/*
+ * Parses the line-oriented format of java.util.Properties from a buffer of
+ * characters, answering each key-value pair to a sink. Follows
+ * Properties.load(Reader) exactly: comment lines start with '#' or '!',
+ * lines ending in an odd number of backslashes continue on the next line,
+ * and keys end at the first unescaped '=', ':' or whitespace. Keys and
+ * values with no backslashes are copied straight out of the buffer.
+ */
+final class PropertiesParser {
+  private final char[] in;
+  private final int limit;
+  private int offset;
+  private char[] line = new char[128];
+
+  private PropertiesParser(char[] in, int offset, int limit) {
+    this.in = in;
+    this.offset = offset;
+    this.limit = limit;
+  }
+
+  static void parse(
+    char[] in,
+    int offset,
+    int limit,
+    BiConsumer<String, String> sink) {
+
+    new PropertiesParser(in, offset, limit).parseInto(sink);
+  }
+
+  private void parseInto(BiConsumer<String, String> sink) {
+    int length;
+    while ((length = readLine()) >= 0) {
+      int keyLength = 0;
+      int valueStart = length;
+      boolean hasSeparator = false;
+      boolean precedingBackslash = false;
+
+      while (keyLength < length) {
+        char c = line[keyLength];
+        if ((c == '=' || c == ':') && !precedingBackslash) {
+          valueStart = keyLength + 1;
+          hasSeparator = true;
+          break;
+        }
+        if (isWhitespace(c) && !precedingBackslash) {
+          valueStart = keyLength + 1;
+          break;
+        }
+        precedingBackslash = c == '\\' && !precedingBackslash;
+        ++keyLength;
+      }
+
+      while (valueStart < length) {
+        char c = line[valueStart];
+        if (!isWhitespace(c)) {
+          if (!hasSeparator && (c == '=' || c == ':')) {
+            hasSeparator = true;
+          } else {
+            break;
+          }
+        }
+        ++valueStart;
+      }
+
+      sink.accept(
+        unescape(line, 0, keyLength),
+        unescape(line, valueStart, length - valueStart));
+    }
+  }
+
+  /*
+   * Reads the next logical line, minus leading whitespace, continuation
+   * backslashes and line terminators, into the line buffer. Answers its
+   * length, or -1 at the end of input.
+   */
+  private int readLine() {
+    int length = 0;
+    boolean skipWhitespace = true;
+    boolean appendedLineBegin = false;
+    boolean precedingBackslash = false;
+
+    while (true) {
+      if (offset >= limit) {
+        if (length == 0) {
+          return -1;
+        }
+        return precedingBackslash ? length - 1 : length;
+      }
+
+      char c = in[offset++];
+      if (skipWhitespace) {
+        if (isWhitespace(c)) {
+          continue;
+        }
+        if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+          continue;
+        }
+        skipWhitespace = false;
+        appendedLineBegin = false;
+      }
+
+      if (length == 0 && (c == '#' || c == '!')) {
+        skipComment();
+        skipWhitespace = true;
+        continue;
+      }
+
+      if (c != '\n' && c != '\r') {
+        if (length == line.length) {
+          char[] grown = new char[length * 2];
+          System.arraycopy(line, 0, grown, 0, length);
+          line = grown;
+        }
+        line[length++] = c;
+        precedingBackslash = c == '\\' && !precedingBackslash;
+      } else if (length == 0) {
+        skipWhitespace = true;
+      } else if (offset >= limit) {
+        return precedingBackslash ? length - 1 : length;
+      } else if (precedingBackslash) {
+        // the backslash joins the next line, minus its leading whitespace
+        --length;
+        skipWhitespace = true;
+        appendedLineBegin = true;
+        precedingBackslash = false;
+        if (c == '\r' && in[offset] == '\n') {
+          ++offset;
+        }
+      } else {
+        return length;
+      }
+    }
+  }
+
+  private void skipComment() {
+    while (offset < limit) {
+      char c = in[offset++];
+      if (c == '\r' || c == '\n') {
+        return;
+      }
+    }
+  }
+
+  private static String unescape(char[] chars, int start, int length) {
+    int end = start + length;
+    int backslash = start;
+    while (backslash < end && chars[backslash] != '\\') {
+      ++backslash;
+    }
+    if (backslash == end) {
+      return new String(chars, start, length);
+    }
+
+    StringBuilder buffer = new StringBuilder(length);
+    buffer.append(chars, start, backslash - start);
+    int i = backslash;
+    while (i < end) {
+      char c = chars[i++];
+      if (c != '\\') {
+        buffer.append(c);
+      } else if (i < end) {
+        c = chars[i++];
+        if (c == 'u') {
+          if (end - i < 4) {
+            throw new IllegalArgumentException(
+              "Malformed \\uxxxx encoding.");
+          }
+          buffer.append(hexChar(chars, i));
+          i += 4;
+        } else {
+          buffer.append(unescaped(c));
+        }
+      }
+    }
+    return buffer.toString();
+  }
+
+  private static char hexChar(char[] chars, int start) {
+    int value = 0;
+    for (int i = start; i < start + 4; ++i) {
+      char c = chars[i];
+      int digit =
+        c >= '0' && c <= '9' ? c - '0'
+          : c >= 'a' && c <= 'f' ? c - 'a' + 10
+          : c >= 'A' && c <= 'F' ? c - 'A' + 10
+          : -1;
+      if (digit < 0) {
+        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+      }
+      value = (value << 4) + digit;
+    }
+    return (char) value;
+  }
+
+  private static char unescaped(char c) {
+    switch (c) {
+      case 't':
+        return '\t';
+      case 'r':
+        return '\r';
+      case 'n':
+        return '\n';
+      case 'f':
+        return '\f';
+      default:
+        return c;
+    }
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\f';
+  }
+}
@@ -25,74 +25,171 @@
 
 package com.pholser.util.properties.internal;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.conversions.ValueConverter;
+import com.pholser.util.properties.internal.defaultvalues.DefaultValue;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import javax.validation.executable.ExecutableValidator;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-
-import static java.lang.System.identityHashCode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 class PropertyBinderInvocationHandler implements InvocationHandler {
+  private static final int MAXIMUM_MEMOS_WITH_ARGUMENTS = 1024;
+
   private final PropertySource properties;
+  private final ExecutableValidator validator;
+  private final ValueConverter[] converters;
+  private final DefaultValue[] defaults;
   private final Schema<?> schema;
+  private final Object[] snapshot;
+  private final AtomicReferenceArray<Memo> memos;
+  private final Cache<ArgumentsKey, Memo> memosWithArguments;
 
   PropertyBinderInvocationHandler(
     PropertySource properties,
-    Schema<?> schema) {
+    ExecutableValidator validator,
+    ValueConverter[] converters,
+    DefaultValue[] defaults,
+    Schema<?> schema,
+    boolean memoized) {
+
+    this(
+      properties,
+      validator,
+      converters,
+      defaults,
+      schema,
+      null,
+      memoized ? new AtomicReferenceArray<>(converters.length) : null);
+  }
+
+  private PropertyBinderInvocationHandler(
+    PropertySource properties,
+    ExecutableValidator validator,
+    ValueConverter[] converters,
+    DefaultValue[] defaults,
+    Schema<?> schema,
+    Object[] snapshot,
+    AtomicReferenceArray<Memo> memos) {
 
     this.properties = properties;
+    this.validator = validator;
+    this.converters = converters;
+    this.defaults = defaults;
     this.schema = schema;
+    this.snapshot = snapshot;
+    this.memos = memos;
+    this.memosWithArguments =
+      memos == null
+        ? null
+        : CacheBuilder.newBuilder()
+          .maximumSize(MAXIMUM_MEMOS_WITH_ARGUMENTS)
+          .build();
+  }
+
+  PropertyBinderInvocationHandler withSnapshot(Object[] values) {
+    return new PropertyBinderInvocationHandler(
+      properties,
+      validator,
+      converters,
+      defaults,
+      schema,
+      values,
+      null);
   }
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args)
     throws Throwable {
 
-    if (isEquals(method)) {
-      return proxy == args[0];
-    }
-    if (isHashCode(method)) {
-      return identityHashCode(proxy);
-    }
-    if (isToString(method)) {
-      return handleToString();
-    }
+    return schema.accessorFor(method).access(proxy, this, args);
+  }
 
-    if (method.isDefault()) {
-      return MethodHandles.lookup()
-        .findSpecial(
-          method.getDeclaringClass(),
-          method.getName(),
-          MethodType.methodType(
-            method.getReturnType(),
-            method.getParameterTypes()),
-          method.getDeclaringClass())
-        .bindTo(proxy)
-        .invokeWithArguments(args);
-    }
+  PropertySource properties() {
+    return properties;
+  }
+
+  ExecutableValidator validator() {
+    return validator;
+  }
+
+  ValueConverter converterAt(int slot) {
+    return converters[slot];
+  }
+
+  DefaultValue defaultAt(int slot) {
+    return defaults[slot];
+  }
 
-    return schema.convert(proxy, properties, method, args);
+  boolean isSnapshot() {
+    return snapshot != null;
   }
 
-  private boolean isEquals(Method method) {
-    return "equals".equals(method.getName())
-      && method.getParameterCount() == 1
-      && Object.class.equals(method.getParameterTypes()[0]);
+  Object snapshotAt(int slot) {
+    return snapshot[slot];
   }
 
-  private boolean isHashCode(Method method) {
-    return "hashCode".equals(method.getName())
-      && method.getParameterCount() == 0;
+  boolean isMemoized() {
+    return memos != null;
   }
 
-  private boolean isToString(Method method) {
-    return "toString".equals(method.getName())
-      && method.getParameterCount() == 0;
+  Memo memoAt(int slot, Object[] args) {
+    return args == null || args.length == 0
+      ? memos.get(slot)
+      : memosWithArguments.getIfPresent(new ArgumentsKey(slot, args));
   }
 
-  private String handleToString() {
-    return schema.getName() + '[' + properties + ']';
+  void memoize(int slot, Object[] args, Memo memo) {
+    if (args == null || args.length == 0) {
+      memos.set(slot, memo);
+    } else {
+      memosWithArguments.put(new ArgumentsKey(slot, args), memo);
+    }
+  }
+
+  private static final class ArgumentsKey {
+    private final int slot;
+    private final List<Object> args;
+
+    ArgumentsKey(int slot, Object[] args) {
+      this.slot = slot;
+      this.args = Arrays.asList(args);
+    }
+
+    @Override public boolean equals(Object o) {
+      if (!(o instanceof ArgumentsKey)) {
+        return false;
+      }
+
+      ArgumentsKey other = (ArgumentsKey) o;
+      return slot == other.slot && args.equals(other.args);
+    }
+
+    @Override public int hashCode() {
+      return 31 * slot + args.hashCode();
+    }
+  }
+
+  static final class Memo {
+    private final Object raw;
+    private final Object converted;
+
+    Memo(Object raw, Object converted) {
+      this.raw = raw;
+      this.converted = converted;
+    }
+
+    boolean isFor(Object candidate) {
+      return raw == candidate || raw.equals(candidate);
+    }
+
+    Object converted() {
+      return converted;
+    }
   }
 }
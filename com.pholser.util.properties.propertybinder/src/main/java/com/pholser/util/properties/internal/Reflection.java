@@ -51,6 +51,17 @@ public final class Reflection {
     }
   }
 
+  public static Method objectMethod(
+    String methodName,
+    Class<?>... parameterTypes) {
+
+    try {
+      return Object.class.getMethod(methodName, parameterTypes);
+    } catch (NoSuchMethodException ex) {
+      throw new AssertionError(ex);
+    }
+  }
+
   public static Object invokeQuietly(
     Method method,
     Object target,
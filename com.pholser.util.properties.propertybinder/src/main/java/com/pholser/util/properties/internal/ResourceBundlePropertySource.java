@@ -31,11 +31,11 @@ import com.pholser.util.properties.PropertySource;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
-import static com.pholser.util.properties.internal.Substitutions.maybeSubstitute;
 import static java.util.Objects.requireNonNull;
 
 public class ResourceBundlePropertySource implements PropertySource {
   private final ResourceBundle backing;
+  private final SubstitutionTemplates templates = new SubstitutionTemplates();
 
   public ResourceBundlePropertySource(ResourceBundle backing) {
     requireNonNull(backing, "null backing");
@@ -45,7 +45,10 @@ public class ResourceBundlePropertySource implements PropertySource {
 
   @Override public Object propertyFor(BoundProperty key) {
     try {
-      return maybeSubstitute(this, key, backing.getObject(key.value()));
+      return templates.maybeSubstitute(
+        this,
+        key,
+        backing.getObject(key.value()));
     } catch (MissingResourceException ex) {
       return null;
     }
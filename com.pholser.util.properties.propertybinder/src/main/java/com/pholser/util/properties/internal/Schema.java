@@ -27,68 +27,92 @@ package com.pholser.util.properties.internal;
 
 import com.pholser.util.properties.BoundProperty;
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.PropertyBinderInvocationHandler.Memo;
+import com.pholser.util.properties.internal.conversions.ConversionOptions;
 import com.pholser.util.properties.internal.conversions.ValueConverter;
 import com.pholser.util.properties.internal.defaultvalues.DefaultValue;
-import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
 import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
 import javax.validation.executable.ExecutableValidator;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 
+import static com.pholser.util.properties.internal.InternalBoundProperty.copyOf;
+import static com.pholser.util.properties.internal.Reflection.objectMethod;
 import static com.pholser.util.properties.internal.Schemata.propertyMarkerFor;
+import static java.lang.System.identityHashCode;
 import static java.lang.reflect.Proxy.newProxyInstance;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 public class Schema<T> {
+  private static final Method EQUALS = objectMethod("equals", Object.class);
+  private static final Method HASH_CODE = objectMethod("hashCode");
+  private static final Method TO_STRING = objectMethod("toString");
+
   private final List<Method> methods;
   private final Class<T> schema;
-  private final Map<BoundProperty, DefaultValue> defaults;
-  private final Map<BoundProperty, ValueConverter> converters;
-  private final Map<BoundProperty, ParsePatterns> patterns;
-
-  private ExecutableValidator validator;
+  private final BoundProperty[] keys;
+  private final ValueConverter[] converters;
+  private final DefaultValue[] defaults;
+  private final Map<Method, Accessor> accessors;
 
   public Schema(
     List<Method> methods,
     Class<T> schema,
     Map<BoundProperty, DefaultValue> defaults,
-    Map<BoundProperty, ValueConverter> converters,
-    Map<BoundProperty, ParsePatterns> patterns) {
+    Map<BoundProperty, ValueConverter> converters) {
 
     this.methods = methods;
     this.schema = schema;
-    this.defaults = defaults;
-    this.converters = converters;
-    this.patterns = patterns;
+    this.keys = new BoundProperty[methods.size()];
+    this.converters = new ValueConverter[methods.size()];
+    this.defaults = new DefaultValue[methods.size()];
+    for (int slot = 0; slot < methods.size(); ++slot) {
+      BoundProperty key = propertyMarkerFor(methods.get(slot));
+      this.keys[slot] = copyOf(key);
+      this.converters[slot] = converters.get(key);
+      this.defaults[slot] = defaults.get(key);
+    }
+    this.accessors = createAccessors();
   }
 
-  public T evaluate(PropertySource properties) {
-    requireNonNull(properties, "null properties source");
+  public T evaluate(
+    PropertySource properties,
+    ExecutableValidator validator,
+    boolean memoized,
+    ConversionOptions options) {
 
-    resolveParsePatterns(properties);
-    resolveConverters(properties);
-    resolveDefaultValues(properties);
-    return createTypedProxyFor(properties);
+    return createTypedProxyFor(
+      bindingFor(properties, validator, memoized, options));
   }
 
-  public void validateWhenPropertiesBecomeBound() {
-    validator =
-      Validation.buildDefaultValidatorFactory()
-        .getValidator()
-        .forExecutables();
+  public T snapshot(
+    PropertySource properties,
+    ExecutableValidator validator,
+    ConversionOptions options) {
+
+    PropertyBinderInvocationHandler live =
+      bindingFor(properties, validator, false, options);
+
+    Object[] values = new Object[methods.size()];
+    for (int slot = 0; slot < values.length; ++slot) {
+      if (methods.get(slot).getParameterCount() == 0) {
+        values[slot] =
+          live.converterAt(slot).share(convert(live, slot, null));
+      }
+    }
+
+    return createTypedProxyFor(live.withSnapshot(values));
   }
 
-  public T validate(T mapped) {
+  public T validate(T mapped, ExecutableValidator validator) {
     if (validator == null) {
       return mapped;
     }
@@ -119,65 +143,172 @@ public class Schema<T> {
   }
 
   Object convert(
+    PropertyBinderInvocationHandler binding,
+    int slot,
+    Object[] args) {
+
+    ValueConverter converter = binding.converterAt(slot);
+    Object raw = binding.properties().propertyFor(keys[slot]);
+    if (raw != null) {
+      return binding.isMemoized()
+        ? memoizedConversion(binding, slot, converter, raw, args)
+        : converter.convertRaw(raw, args);
+    }
+
+    DefaultValue defaultValue = binding.defaultAt(slot);
+    return defaultValue == null
+      ? converter.nilValue()
+      : defaultValue.evaluate();
+  }
+
+  private static Object memoizedConversion(
+    PropertyBinderInvocationHandler binding,
+    int slot,
+    ValueConverter converter,
+    Object raw,
+    Object[] args) {
+
+    Memo memo = binding.memoAt(slot, args);
+    if (memo == null || !memo.isFor(raw)) {
+      memo = new Memo(raw, converter.share(converter.convertRaw(raw, args)));
+      binding.memoize(slot, args, memo);
+    }
+
+    return converter.copyOfShared(memo.converted());
+  }
+
+  Object convertValidated(
     Object config,
-    PropertySource properties,
+    PropertyBinderInvocationHandler binding,
+    int slot,
     Method method,
     Object[] args) {
 
+    ExecutableValidator validator = binding.validator();
     T typedConfig = schema.cast(config);
-    Set<ConstraintViolation<T>> violations = new HashSet<>();
 
-    if (shouldValidateMethodParameters(method)) {
-      violations.addAll(
+    if (method.getParameterCount() > 0) {
+      rejectInvalidProperty(
         validator.validateParameters(
           typedConfig,
           method,
           args == null ? new Object[0] : args));
-      rejectInvalidProperty(violations);
     }
 
-    BoundProperty key = propertyMarkerFor(method);
-    ValueConverter converter = converters.get(key);
-    Object converted =
-      Optional.ofNullable(properties.propertyFor(key))
-        .map(v -> converter.convertRaw(v, args))
-        .orElse(
-          Optional.ofNullable(defaults.get(key))
-            .map(DefaultValue::evaluate)
-            .orElse(converter.nilValue()));
-    if (validator == null) {
-      return converted;
-    }
-
-    violations.addAll(
+    Object converted = convert(binding, slot, args);
+    rejectInvalidProperty(
       validator.validateReturnValue(typedConfig, method, converted));
-    rejectInvalidProperty(violations);
 
     return converted;
   }
 
-  String getName() {
-    return schema.getName();
+  Accessor accessorFor(Method method) {
+    Accessor accessor = accessors.get(method);
+    if (accessor == null) {
+      throw new AssertionError("No accessor for " + method);
+    }
+
+    return accessor;
   }
 
-  private void resolveParsePatterns(PropertySource properties) {
-    patterns.values().forEach(p -> p.resolve(properties));
+  private Map<Method, Accessor> createAccessors() {
+    Map<Method, Accessor> created = new HashMap<>();
+
+    created.put(EQUALS, (proxy, binding, args) -> proxy == args[0]);
+    created.put(
+      HASH_CODE,
+      (proxy, binding, args) -> identityHashCode(proxy));
+    created.put(
+      TO_STRING,
+      (proxy, binding, args) ->
+        schema.getName() + '[' + binding.properties() + ']');
+
+    Arrays.stream(schema.getDeclaredMethods())
+      .filter(Method::isDefault)
+      .forEach(m -> created.put(m, new DefaultMethodAccessor(m)));
+
+    for (int i = 0; i < methods.size(); ++i) {
+      int slot = i;
+      Method method = methods.get(slot);
+      Accessor live =
+        (proxy, binding, args) ->
+          binding.validator() == null
+            ? convert(binding, slot, args)
+            : convertValidated(proxy, binding, slot, method, args);
+      created.put(
+        method,
+        method.getParameterCount() > 0
+          ? live
+          : (proxy, binding, args) ->
+            binding.isSnapshot()
+              ? binding.converterAt(slot)
+                .copyOfShared(binding.snapshotAt(slot))
+              : live.access(proxy, binding, args));
+    }
+
+    return created;
   }
 
-  private void resolveConverters(PropertySource properties) {
-    converters.values().forEach(c -> c.resolve(properties));
+  private PropertyBinderInvocationHandler bindingFor(
+    PropertySource properties,
+    ExecutableValidator validator,
+    boolean memoized,
+    ConversionOptions options) {
+
+    requireNonNull(properties, "null properties source");
+
+    ValueConverter[] resolvedConverters =
+      resolveConverters(properties, options);
+    DefaultValue[] resolvedDefaults =
+      resolveDefaultValues(properties, resolvedConverters);
+    for (int slot = 0; slot < resolvedConverters.length; ++slot) {
+      if (methods.get(slot).getParameterCount() == 0) {
+        resolvedConverters[slot].prefetch(properties, keys[slot]);
+      }
+    }
+    return new PropertyBinderInvocationHandler(
+      properties,
+      validator,
+      resolvedConverters,
+      resolvedDefaults,
+      this,
+      memoized);
+  }
+
+  private ValueConverter[] resolveConverters(
+    PropertySource properties,
+    ConversionOptions options) {
+
+    ValueConverter[] resolved = new ValueConverter[converters.length];
+    for (int slot = 0; slot < converters.length; ++slot) {
+      resolved[slot] = converters[slot].resolve(properties);
+      if (options != ConversionOptions.DEFAULTS) {
+        resolved[slot] = resolved[slot].configuredWith(options);
+      }
+    }
+    return resolved;
   }
 
-  private void resolveDefaultValues(PropertySource properties) {
-    defaults.values().forEach(d -> d.resolve(properties));
+  private DefaultValue[] resolveDefaultValues(
+    PropertySource properties,
+    ValueConverter[] resolvedConverters) {
+
+    DefaultValue[] resolved = new DefaultValue[defaults.length];
+    for (int slot = 0; slot < defaults.length; ++slot) {
+      if (defaults[slot] != null) {
+        resolved[slot] =
+          defaults[slot].resolve(properties, resolvedConverters[slot]);
+      }
+    }
+    return resolved;
   }
 
-  private T createTypedProxyFor(PropertySource properties) {
+  private T createTypedProxyFor(PropertyBinderInvocationHandler binding) {
     return schema.cast(
       newProxyInstance(
         schema.getClassLoader(),
         new Class<?>[] {schema},
-        new PropertyBinderInvocationHandler(properties, this)));
+        binding));
   }
 
   private void rejectInvalidProperty(
@@ -190,8 +321,4 @@ public class Schema<T> {
           .collect(joining(System.lineSeparator())));
     }
   }
-
-  private boolean shouldValidateMethodParameters(Method method) {
-    return validator != null && method.getParameterCount() > 0;
-  }
 }
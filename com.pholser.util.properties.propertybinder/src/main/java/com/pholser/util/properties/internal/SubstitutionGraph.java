@@ -0,0 +1,183 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.exceptions.CyclicSubstitutionException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+/**
+ * Graph of the {@code [reference]}s among a fixed set of raw property
+ * values. Resolves values in dependency order, so that each value is
+ * expanded once, using the already-resolved values it refers to.
+ * References are parsed only for the values a walk reaches.
+ */
+public final class SubstitutionGraph {
+  private final Map<String, String> raw;
+  private final SubstitutionTemplates templates = new SubstitutionTemplates();
+
+  private SubstitutionGraph(Map<String, String> raw) {
+    this.raw = raw;
+  }
+
+  public static SubstitutionGraph of(Map<String, String> raw) {
+    return new SubstitutionGraph(raw);
+  }
+
+  /**
+   * @return every key mapped to its fully substituted value
+   * @throws CyclicSubstitutionException if any value refers, directly or
+   * indirectly, to itself
+   */
+  public Map<String, String> resolve() {
+    Map<String, String> resolved = new LinkedHashMap<>(raw.size());
+    resolveInto(resolved, dependencyOrder(raw.keySet(), emptySet()));
+    return Collections.unmodifiableMap(resolved);
+  }
+
+  /**
+   * Substitutes the value of the given key, and of every key it refers to
+   * that {@code resolved} does not already hold, adding them to
+   * {@code resolved}.
+   *
+   * @param key the key to resolve
+   * @param resolved values already substituted, keyed by property key
+   * @return the substituted value of {@code key}, or {@code null} if there
+   * is no such key
+   * @throws CyclicSubstitutionException if the value refers, directly or
+   * indirectly, to itself
+   */
+  public String resolve(String key, Map<String, String> resolved) {
+    String known = resolved.get(key);
+    if (known != null) {
+      return known;
+    }
+
+    resolveInto(
+      resolved,
+      dependencyOrder(singleton(key), resolved.keySet()));
+    return resolved.get(key);
+  }
+
+  private void resolveInto(Map<String, String> resolved, List<String> order) {
+    PropertySource partiallyResolved = key -> {
+      String value = resolved.get(key.value());
+      return value == null ? raw.get(key.value()) : value;
+    };
+
+    for (String key : order) {
+      resolved.put(
+        key,
+        templates.substitute(partiallyResolved, key, raw.get(key)));
+    }
+  }
+
+  /*
+   * Depth-first, post-order walk over the references from the given roots,
+   * kept on explicit stacks so that long chains of references cannot
+   * exhaust the call stack. Keys already done are not walked again.
+   */
+  private List<String> dependencyOrder(
+    Collection<String> roots,
+    Set<String> done) {
+
+    List<String> order = new ArrayList<>();
+    Set<String> finished = new HashSet<>();
+    Set<String> onPath = new HashSet<>();
+    List<String> path = new ArrayList<>();
+    Deque<Iterator<String>> pending = new ArrayDeque<>();
+
+    for (String root : roots) {
+      if (finished.contains(root)
+        || done.contains(root)
+        || !raw.containsKey(root)) {
+
+        continue;
+      }
+
+      enter(root, onPath, path, pending);
+      while (!pending.isEmpty()) {
+        Iterator<String> remaining = pending.peek();
+        if (remaining.hasNext()) {
+          String reference = remaining.next();
+          if (onPath.contains(reference)) {
+            List<String> cycle =
+              new ArrayList<>(
+                path.subList(path.indexOf(reference), path.size()));
+            cycle.add(reference);
+            throw new CyclicSubstitutionException(cycle);
+          }
+          if (!finished.contains(reference)
+            && !done.contains(reference)
+            && raw.containsKey(reference)) {
+
+            enter(reference, onPath, path, pending);
+          }
+        } else {
+          pending.pop();
+          String exited = path.remove(path.size() - 1);
+          onPath.remove(exited);
+          finished.add(exited);
+          order.add(exited);
+        }
+      }
+    }
+
+    return order;
+  }
+
+  private void enter(
+    String key,
+    Set<String> onPath,
+    List<String> path,
+    Deque<Iterator<String>> pending) {
+
+    onPath.add(key);
+    path.add(key);
+    pending.push(referencesOf(key, raw.get(key)).iterator());
+  }
+
+  private List<String> referencesOf(String key, String value) {
+    return value != null && value.indexOf('[') >= 0
+      ? templates.templateFor(key, value).referencedKeys()
+      : emptyList();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of substituted property values, with a reverse index from each key
+ * to the keys whose substituted values consulted it. Changing a key
+ * evicts exactly the values that depend on it, directly or transitively.
+ *
+ * Raw values that the owner does not hold itself, such as those of a set
+ * of defaults, can change without the owner's knowing. The owner looks
+ * them up through {@link #fallBackTo(String)}; each cached value remembers
+ * the fallback values it consulted, and is used only while they still
+ * hold.
+ *
+ * Reads of cached values need no lock. The owner must serialize calls to
+ * {@link #resolve(String, Function)}, {@link #fallBackTo(String)} and the
+ * invalidation methods with one another.
+ */
+public final class SubstitutionIndex {
+  private static final int MAX_FALLBACKS = 64;
+
+  private final Map<String, Resolution> resolved = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> dependents = new HashMap<>();
+  private final Deque<Resolution> inProgress = new ArrayDeque<>();
+  private final Function<String, String> fallback;
+
+  /**
+   * @param fallback answers raw values the owner does not hold itself
+   */
+  public SubstitutionIndex(Function<String, String> fallback) {
+    this.fallback = fallback;
+  }
+
+  public String cached(String key) {
+    Resolution resolution = resolved.get(key);
+    return resolution != null && resolution.isCurrent(fallback)
+      ? resolution.value
+      : null;
+  }
+
+  public String resolve(String key, Function<String, String> resolver) {
+    Resolution dependent = inProgress.peek();
+    if (dependent != null) {
+      dependents.computeIfAbsent(key, k -> new HashSet<>())
+        .add(dependent.key);
+    }
+
+    Resolution cached = resolved.get(key);
+    if (cached != null && cached.isCurrent(fallback)) {
+      if (dependent != null) {
+        dependent.consulted(cached);
+      }
+      return cached.value;
+    }
+
+    Resolution resolution = new Resolution(key);
+    inProgress.push(resolution);
+    try {
+      resolution.value = resolver.apply(key);
+    } finally {
+      inProgress.pop();
+      if (dependent != null) {
+        dependent.consulted(resolution);
+      }
+    }
+
+    if (resolution.value == null || resolution.fallbackKeys == null) {
+      resolved.remove(key);
+    } else {
+      resolved.put(key, resolution);
+    }
+    return resolution.value;
+  }
+
+  public String fallBackTo(String key) {
+    String value = fallback.apply(key);
+    Resolution current = inProgress.peek();
+    if (current != null) {
+      current.fellBackTo(key, value);
+    }
+    return value;
+  }
+
+  public void invalidate(Object key) {
+    if (resolved.isEmpty() && dependents.isEmpty()) {
+      return;
+    }
+
+    Deque<Object> stale = new ArrayDeque<>();
+    stale.push(key);
+
+    while (!stale.isEmpty()) {
+      Object next = stale.pop();
+      resolved.remove(next);
+
+      Set<String> affected = dependents.remove(next);
+      if (affected != null) {
+        affected.forEach(stale::push);
+      }
+    }
+  }
+
+  public void invalidateAll() {
+    resolved.clear();
+    dependents.clear();
+  }
+
+  /*
+   * A substituted value, with the fallback values that went into it. A
+   * value that consulted too many fallback values to check cheaply keeps
+   * none, and is not cached.
+   */
+  private static final class Resolution {
+    final String key;
+    String value;
+    List<String> fallbackKeys = new ArrayList<>(0);
+    List<String> fallbackValues = new ArrayList<>(0);
+
+    Resolution(String key) {
+      this.key = key;
+    }
+
+    void fellBackTo(String fallbackKey, String fallbackValue) {
+      if (fallbackKeys == null || fallbackKeys.contains(fallbackKey)) {
+        return;
+      }
+      if (fallbackKeys.size() == MAX_FALLBACKS) {
+        fallbackKeys = null;
+        fallbackValues = null;
+        return;
+      }
+
+      fallbackKeys.add(fallbackKey);
+      fallbackValues.add(fallbackValue);
+    }
+
+    void consulted(Resolution other) {
+      if (other.fallbackKeys == null) {
+        fallbackKeys = null;
+        fallbackValues = null;
+        return;
+      }
+
+      for (int i = 0; i < other.fallbackKeys.size(); ++i) {
+        fellBackTo(other.fallbackKeys.get(i), other.fallbackValues.get(i));
+      }
+    }
+
+    boolean isCurrent(Function<String, String> fallback) {
+      for (int i = 0; i < fallbackKeys.size(); ++i) {
+        String now = fallback.apply(fallbackKeys.get(i));
+        if (!Objects.equals(now, fallbackValues.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
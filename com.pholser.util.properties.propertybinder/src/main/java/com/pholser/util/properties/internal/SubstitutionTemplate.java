@@ -0,0 +1,186 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.exceptions.CyclicSubstitutionException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A property value parsed into alternating literal text and
+ * {@code [reference]} segments, so that it can be expanded in one pass.
+ * Splits values the same way as the regex {@code \[(.*?)\]}: a reference
+ * runs from a {@code [} to the next {@code ]}, and may not span lines.
+ *
+ * Each reference is replaced by the referenced property's value as the
+ * property source gives it, so sources that substitute their own values
+ * expand references recursively. Substituted text is not scanned again
+ * for references.
+ */
+public final class SubstitutionTemplate {
+  private static final ThreadLocal<List<String>> REFERENCES_IN_PROGRESS =
+    ThreadLocal.withInitial(ArrayList::new);
+
+  private final String source;
+  private final String[] literals;
+  private final BoundProperty[] references;
+  private final int literalLength;
+
+  private SubstitutionTemplate(
+    String source,
+    String[] literals,
+    BoundProperty[] references,
+    int literalLength) {
+
+    this.source = source;
+    this.literals = literals;
+    this.references = references;
+    this.literalLength = literalLength;
+  }
+
+  public static SubstitutionTemplate parse(String value) {
+    List<String> literals = new ArrayList<>();
+    List<BoundProperty> references = new ArrayList<>();
+    int literalLength = 0;
+
+    int literalStart = 0;
+    int open = value.indexOf('[');
+    while (open >= 0) {
+      int close = referenceEnd(value, open);
+      if (close < 0) {
+        open = value.indexOf('[', open + 1);
+        continue;
+      }
+
+      literals.add(value.substring(literalStart, open));
+      literalLength += open - literalStart;
+      references.add(
+        new InternalBoundProperty(value.substring(open + 1, close)));
+
+      literalStart = close + 1;
+      open = value.indexOf('[', literalStart);
+    }
+    literals.add(value.substring(literalStart));
+    literalLength += value.length() - literalStart;
+
+    return new SubstitutionTemplate(
+      value,
+      literals.toArray(new String[0]),
+      references.toArray(new BoundProperty[0]),
+      literalLength);
+  }
+
+  boolean compiledFrom(String value) {
+    return source.equals(value);
+  }
+
+  List<String> referencedKeys() {
+    List<String> keys = new ArrayList<>(references.length);
+    for (BoundProperty each : references) {
+      keys.add(each.value());
+    }
+    return keys;
+  }
+
+  /**
+   * @param properties source of referenced values
+   * @return the value with each reference replaced by the referenced
+   * property's value, or by nothing if there is no such property
+   * @throws CyclicSubstitutionException if a referenced value refers,
+   * directly or indirectly, back to a value being expanded
+   */
+  public String expand(PropertySource properties) {
+    if (references.length == 0) {
+      return literals[0];
+    }
+
+    String[] values = new String[references.length];
+    int length = literalLength;
+    for (int i = 0; i < references.length; ++i) {
+      String value = referencedValue(properties, references[i]);
+      if (value == null) {
+        value = "";
+      }
+
+      values[i] = value;
+      length += value.length();
+    }
+
+    StringBuilder buffer = new StringBuilder(length);
+    for (int i = 0; i < references.length; ++i) {
+      buffer.append(literals[i]).append(values[i]);
+    }
+    buffer.append(literals[references.length]);
+
+    return buffer.toString();
+  }
+
+  private static String referencedValue(
+    PropertySource properties,
+    BoundProperty reference) {
+
+    List<String> inProgress = REFERENCES_IN_PROGRESS.get();
+    int start = inProgress.indexOf(reference.value());
+    if (start >= 0) {
+      List<String> cycle =
+        new ArrayList<>(inProgress.subList(start, inProgress.size()));
+      cycle.add(reference.value());
+      throw new CyclicSubstitutionException(cycle);
+    }
+
+    inProgress.add(reference.value());
+    try {
+      return (String) properties.propertyFor(reference);
+    } finally {
+      inProgress.remove(inProgress.size() - 1);
+    }
+  }
+
+  private static int referenceEnd(String value, int open) {
+    for (int i = open + 1; i < value.length(); ++i) {
+      char ch = value.charAt(i);
+      if (ch == ']') {
+        return i;
+      }
+      if (isLineTerminator(ch)) {
+        return -1;
+      }
+    }
+
+    return -1;
+  }
+
+  private static boolean isLineTerminator(char ch) {
+    return ch == '\n'
+      || ch == '\r'
+      || ch == '\u0085'
+      || ch == '\u2028'
+      || ch == '\u2029';
+  }
+}
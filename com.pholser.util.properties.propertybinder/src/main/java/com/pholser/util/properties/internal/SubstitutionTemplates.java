@@ -0,0 +1,87 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.PropertySource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The compiled {@linkplain SubstitutionTemplate templates} of one property
+ * source's values, kept per key. A key's template is compiled again only
+ * when its raw value changes, and lives no longer than the source that
+ * owns it.
+ */
+public final class SubstitutionTemplates {
+  private final Map<String, SubstitutionTemplate> byKey =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Substitutes the given value of the given key, unless the key suppresses
+   * substitution or the value is not a string.
+   *
+   * @param properties source of referenced values
+   * @param key key whose value is to be substituted
+   * @param value raw value of {@code key}
+   * @return the substituted value
+   */
+  public Object maybeSubstitute(
+    PropertySource properties,
+    BoundProperty key,
+    Object value) {
+
+    return value instanceof String && !key.suppressSubstitution()
+      ? substitute(properties, key.value(), (String) value)
+      : value;
+  }
+
+  /**
+   * @param properties source of referenced values
+   * @param key key whose value is to be substituted
+   * @param value raw value of {@code key}
+   * @return the substituted value
+   */
+  public String substitute(
+    PropertySource properties,
+    String key,
+    String value) {
+
+    return value == null || value.indexOf('[') < 0
+      ? value
+      : templateFor(key, value).expand(properties);
+  }
+
+  SubstitutionTemplate templateFor(String key, String value) {
+    SubstitutionTemplate template = byKey.get(key);
+    if (template == null || !template.compiledFrom(value)) {
+      template = SubstitutionTemplate.parse(value);
+      byKey.put(key, template);
+    }
+    return template;
+  }
+}
@@ -29,24 +29,91 @@ import com.pholser.util.properties.PropertySource;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 import com.pholser.util.properties.internal.separators.ValueSeparator;
 
+import java.util.Iterator;
+import java.util.function.IntConsumer;
+
 abstract class AggregateValueConverter extends ValueConverter {
   private final ValueSeparator separator;
   private final ValueConverter elementConverter;
+  private final ConversionOptions options;
 
   AggregateValueConverter(
     ValueSeparator separator,
-    ValueConverter elementConverter) {
+    ValueConverter elementConverter,
+    ConversionOptions options) {
 
     this.separator = separator;
     this.elementConverter = elementConverter;
+    this.options = options;
   }
 
   final String[] separate(String raw) {
     return separator.separate(raw);
   }
 
-  @Override public final void resolve(PropertySource properties) {
-    separator.resolve(properties);
+  /*
+   * Separates and converts the pieces of the given value one at a time,
+   * as the answered iterator is advanced.
+   */
+  final Iterator<Object> convertOnDemand(String raw) {
+    Iterator<String> pieces = separator.pieces(raw);
+    return new Iterator<Object>() {
+      @Override public boolean hasNext() {
+        return pieces.hasNext();
+      }
+
+      @Override public Object next() {
+        return elementConverter.convert(pieces.next());
+      }
+    };
+  }
+
+  @Override public final ValueConverter resolve(PropertySource properties) {
+    ValueSeparator resolvedSeparator = separator.resolve(properties);
+    ValueConverter resolvedElementConverter =
+      elementConverter.resolve(properties);
+
+    return resolvedSeparator == separator
+      && resolvedElementConverter == elementConverter
+      ? this
+      : with(resolvedSeparator, resolvedElementConverter, options);
+  }
+
+  @Override public final ValueConverter configuredWith(
+    ConversionOptions options) {
+
+    return with(separator, elementConverter.configuredWith(options), options);
+  }
+
+  @Override public final boolean dependsOnOptions() {
+    return elementConverter.dependsOnOptions();
+  }
+
+  abstract AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options);
+
+  final boolean convertsInParallel(int elementCount) {
+    return options.convertsInParallel(elementCount);
+  }
+
+  /*
+   * Converts the elements at indexes [0, elementCount). Above the
+   * binder's parallel threshold, chunks of indexes are converted on its
+   * executor, and every element that fails is reported together.
+   */
+  final void convertEach(int elementCount, IntConsumer conversion) {
+    if (options.convertsInParallel(elementCount)) {
+      ParallelConversion.convertEach(
+        elementCount,
+        options.executor(),
+        conversion);
+    } else {
+      for (int i = 0; i < elementCount; ++i) {
+        conversion.accept(i);
+      }
+    }
   }
 
   @Override public final ParsePatterns parsePatterns() {
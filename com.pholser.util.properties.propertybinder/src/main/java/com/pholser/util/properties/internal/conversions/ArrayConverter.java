@@ -30,30 +30,98 @@ import com.pholser.util.properties.internal.separators.ValueSeparator;
 import java.lang.reflect.Array;
 
 class ArrayConverter extends AggregateValueConverter {
+  private static final ClassValue<Object> EMPTY_ARRAYS =
+    new ClassValue<Object>() {
+      @Override protected Object computeValue(Class<?> componentType) {
+        return Array.newInstance(componentType, 0);
+      }
+    };
+
   private final Class<?> componentType;
 
   ArrayConverter(
     Class<?> componentType,
     ValueSeparator separator,
-    ValueConverter elementConverter) {
+    ValueConverter elementConverter,
+    ConversionOptions options) {
 
-    super(separator, elementConverter);
+    super(separator, elementConverter, options);
     this.componentType = componentType;
   }
 
+  @Override AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    return new ArrayConverter(
+      componentType,
+      separator,
+      elementConverter,
+      options);
+  }
+
   @Override public Object convert(String formatted) {
     String[] pieces = separate(formatted);
+    if (pieces.length == 0) {
+      return nilValue();
+    }
 
-    Object array = Array.newInstance(componentType, pieces.length);
+    ValueConverter element = elementConverter();
 
-    for (int i = 0; i < pieces.length; ++i) {
-      Array.set(array, i, elementConverter().convert(pieces[i]));
+    if (componentType == int.class) {
+      int[] array = new int[pieces.length];
+      convertEach(
+        pieces.length,
+        i -> array[i] = element.convertToInt(pieces[i]));
+      return array;
+    }
+    if (componentType == long.class) {
+      long[] array = new long[pieces.length];
+      convertEach(
+        pieces.length,
+        i -> array[i] = element.convertToLong(pieces[i]));
+      return array;
+    }
+    if (componentType == double.class) {
+      double[] array = new double[pieces.length];
+      convertEach(
+        pieces.length,
+        i -> array[i] = element.convertToDouble(pieces[i]));
+      return array;
+    }
+    if (componentType == boolean.class) {
+      boolean[] array = new boolean[pieces.length];
+      convertEach(
+        pieces.length,
+        i -> array[i] = element.convertToBoolean(pieces[i]));
+      return array;
     }
 
+    Object array = Array.newInstance(componentType, pieces.length);
+    convertEach(
+      pieces.length,
+      i -> Array.set(array, i, element.convert(pieces[i])));
     return array;
   }
 
   @Override public Object nilValue() {
-    return Array.newInstance(componentType, 0);
+    // zero-length arrays are immutable, so every caller can share one
+    return EMPTY_ARRAYS.get(componentType);
+  }
+
+  @Override public Object copyOfShared(Object shared) {
+    if (shared == null
+      || !shared.getClass().isArray()
+      || Array.getLength(shared) == 0) {
+
+      return shared;
+    }
+
+    int length = Array.getLength(shared);
+    Object copy =
+      Array.newInstance(shared.getClass().getComponentType(), length);
+    System.arraycopy(shared, 0, copy, 0, length);
+    return copy;
   }
 }
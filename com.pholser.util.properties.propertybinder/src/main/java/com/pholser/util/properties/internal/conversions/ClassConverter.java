@@ -25,25 +25,75 @@
 
 package com.pholser.util.properties.internal.conversions;
 
+import com.pholser.util.properties.internal.LoadedClasses;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class ClassConverter extends SingularValueConverter {
-  private final List<Class<?>> upperBounds = new ArrayList<>();
+  private static final ConcurrentMap<List<Class<?>>, ClassValue<Boolean>>
+    BOUNDS_CHECKS = new ConcurrentHashMap<>();
+
+  private final List<Class<?>> upperBounds;
+  private final ClassLoader loader;
+  private final ClassValue<Boolean> withinBounds;
+
+  ClassConverter(
+    ParsePatterns patterns,
+    List<Class<?>> upperBounds,
+    ClassLoader loader) {
 
-  ClassConverter(ParsePatterns patterns, List<Class<?>> upperBounds) {
     super(patterns);
-    this.upperBounds.addAll(upperBounds);
+    this.upperBounds = new ArrayList<>(upperBounds);
+    this.loader = loader;
+    this.withinBounds =
+      BOUNDS_CHECKS.computeIfAbsent(
+        this.upperBounds,
+        ClassConverter::boundsCheck);
+  }
+
+  private ClassConverter(ClassConverter original, ClassLoader loader) {
+    super(original.parsePatterns());
+    this.upperBounds = original.upperBounds;
+    this.loader = loader;
+    this.withinBounds = original.withinBounds;
+  }
+
+  /*
+   * Converters with the same bounds share one check, so that each distinct
+   * class is checked against those bounds once, however many binders load it.
+   */
+  private static ClassValue<Boolean> boundsCheck(List<Class<?>> bounds) {
+    return new ClassValue<Boolean>() {
+      @Override protected Boolean computeValue(Class<?> type) {
+        for (Class<?> each : bounds) {
+          if (!each.isAssignableFrom(type)) {
+            return false;
+          }
+        }
+        return true;
+      }
+    };
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    ClassLoader configured = options.classLoader();
+    return configured == null || configured == loader
+      ? this
+      : new ClassConverter(this, configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return true;
   }
 
   @Override public Object convert(String formatted) {
     try {
-      Class<?> converted = Class.forName(formatted);
-      if (!upperBounds.stream().allMatch(
-        b -> b.isAssignableFrom(converted))) {
-
+      Class<?> converted = LoadedClasses.forName(formatted, loader);
+      if (!withinBounds.get(converted)) {
         throw new IllegalArgumentException(
           formatted + " not assignable to " + upperBounds);
       }
@@ -0,0 +1,104 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.conversions.InetAddressResolution;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Per-binder settings that affect how property values are converted.
+ */
+public final class ConversionOptions {
+  public static final ConversionOptions DEFAULTS =
+    new ConversionOptions(null, Integer.MAX_VALUE, null, null);
+
+  private final ClassLoader classLoader;
+  private final int parallelThreshold;
+  private final Executor executor;
+  private final InetAddressResolution addressResolution;
+
+  private ConversionOptions(
+    ClassLoader classLoader,
+    int parallelThreshold,
+    Executor executor,
+    InetAddressResolution addressResolution) {
+
+    this.classLoader = classLoader;
+    this.parallelThreshold = parallelThreshold;
+    this.executor = executor;
+    this.addressResolution = addressResolution;
+  }
+
+  public ConversionOptions withClassLoader(ClassLoader loader) {
+    return new ConversionOptions(
+      requireNonNull(loader, "null class loader"),
+      parallelThreshold,
+      executor,
+      addressResolution);
+  }
+
+  public ConversionOptions withParallelism(int threshold, Executor executor) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException(
+        "parallel conversion threshold must be positive: " + threshold);
+    }
+
+    return new ConversionOptions(
+      classLoader,
+      threshold,
+      requireNonNull(executor, "null executor"),
+      addressResolution);
+  }
+
+  public ConversionOptions withAddressResolution(
+    InetAddressResolution resolution) {
+
+    return new ConversionOptions(
+      classLoader,
+      parallelThreshold,
+      executor,
+      requireNonNull(resolution, "null resolution"));
+  }
+
+  ClassLoader classLoader() {
+    return classLoader;
+  }
+
+  boolean convertsInParallel(int elementCount) {
+    return elementCount >= parallelThreshold;
+  }
+
+  Executor executor() {
+    return executor;
+  }
+
+  InetAddressResolution addressResolution() {
+    return addressResolution;
+  }
+}
@@ -25,17 +25,26 @@
 
 package com.pholser.util.properties.internal.conversions;
 
+import com.pholser.util.properties.internal.conversions.EnumNames.Matching;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
 class EnumConverter<T extends Enum<T>> extends SingularValueConverter {
   private final Class<T> valueType;
+  private final EnumNames<T> names;
+  private final Matching matching;
 
   EnumConverter(ParsePatterns patterns, Class<T> valueType) {
     super(patterns);
     this.valueType = valueType;
+    this.names = EnumNames.of(valueType);
+    this.matching = Matching.forPatterns(patterns.resolved());
+  }
+
+  @Override SingularValueConverter withPatterns(ParsePatterns resolved) {
+    return new EnumConverter<>(resolved, valueType);
   }
 
   @Override public Object convert(String formatted) {
-    return Enum.valueOf(valueType, formatted);
+    return names.constantNamed(formatted, matching);
   }
 }
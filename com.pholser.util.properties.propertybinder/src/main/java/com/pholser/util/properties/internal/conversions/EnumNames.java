@@ -0,0 +1,149 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Name tables for the constants of an enum type, built once per type.
+ * Besides exact names, constants can be looked up by names compared
+ * without regard to case, or to case and dashes vs. underscores. Names
+ * that more than one constant shares under a comparison are ambiguous and
+ * match nothing. Each relaxed table is a hash table keyed by normalized
+ * names, so a lookup normalizes the given name once and hashes it once.
+ */
+final class EnumNames<T extends Enum<T>> {
+  enum Matching {
+    EXACT(false, false),
+    CASE_INSENSITIVE(true, false),
+    RELAXED(true, true);
+
+    private final boolean ignoringCase;
+    private final boolean dashesAsUnderscores;
+
+    Matching(boolean ignoringCase, boolean dashesAsUnderscores) {
+      this.ignoringCase = ignoringCase;
+      this.dashesAsUnderscores = dashesAsUnderscores;
+    }
+
+    /*
+     * Patterns that name no matching are ignored, so that @ParsedAs on an
+     * enum-valued method means what it did before matchings existed.
+     */
+    static Matching forPatterns(Iterable<String> patterns) {
+      Matching matching = EXACT;
+      for (String each : patterns) {
+        Matching named = named(each);
+        if (named != null && named.ordinal() > matching.ordinal()) {
+          matching = named;
+        }
+      }
+      return matching;
+    }
+
+    private static Matching named(String pattern) {
+      for (Matching each : values()) {
+        if (each.name().equals(pattern)) {
+          return each;
+        }
+      }
+      return null;
+    }
+
+    String normalize(String name) {
+      char[] folded = new char[name.length()];
+      for (int i = 0; i < folded.length; ++i) {
+        folded[i] = fold(name.charAt(i));
+      }
+      return new String(folded);
+    }
+
+    private char fold(char ch) {
+      char folded = ignoringCase ? Character.toUpperCase(ch) : ch;
+      return dashesAsUnderscores && folded == '-' ? '_' : folded;
+    }
+  }
+
+  private static final ClassValue<EnumNames<?>> TABLES =
+    new ClassValue<EnumNames<?>>() {
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      @Override protected EnumNames<?> computeValue(Class<?> type) {
+        return new EnumNames(type);
+      }
+    };
+
+  private final Class<T> type;
+  private final Map<String, T> exact = new HashMap<>();
+  private final Map<Matching, Map<String, T>> relaxed = new HashMap<>();
+
+  private EnumNames(Class<T> type) {
+    this.type = type;
+
+    for (T each : type.getEnumConstants()) {
+      exact.put(each.name(), each);
+    }
+    for (Matching each : Matching.values()) {
+      if (each != Matching.EXACT) {
+        relaxed.put(each, tableFor(each));
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T extends Enum<T>> EnumNames<T> of(Class<T> type) {
+    return (EnumNames<T>) TABLES.get(type);
+  }
+
+  T constantNamed(String name, Matching matching) {
+    T constant = exact.get(name);
+    if (constant == null && matching != Matching.EXACT) {
+      constant = relaxed.get(matching).get(matching.normalize(name));
+    }
+    if (constant == null) {
+      throw new IllegalArgumentException(
+        "No enum constant " + type.getCanonicalName() + '.' + name);
+    }
+
+    return constant;
+  }
+
+  private Map<String, T> tableFor(Matching matching) {
+    Map<String, T> table = new HashMap<>();
+    Set<String> ambiguous = new HashSet<>();
+    for (T each : exact.values()) {
+      String normalized = matching.normalize(each.name());
+      if (table.putIfAbsent(normalized, each) != null) {
+        ambiguous.add(normalized);
+      }
+    }
+    ambiguous.forEach(table::remove);
+    return Collections.unmodifiableMap(table);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+
+/**
+ * A raw property value compiled for formatting with accessor arguments.
+ * Handles {@code %s}, {@code %n$s}, {@code %%} and {@code %n} directly;
+ * any other format specifier sends the value through
+ * {@link String#format(String, Object...)}, as do arguments that are
+ * {@link Formattable} or missing.
+ */
+final class FormatTemplate {
+  private static final LoadingCache<String, FormatTemplate> TEMPLATES =
+    CacheBuilder.newBuilder()
+      .maximumSize(4096)
+      .build(CacheLoader.from(FormatTemplate::compile));
+
+  private final String raw;
+  private final String[] literals;
+  private final int[] argumentIndices;
+  private final int literalLength;
+
+  private FormatTemplate(
+    String raw,
+    String[] literals,
+    int[] argumentIndices,
+    int literalLength) {
+
+    this.raw = raw;
+    this.literals = literals;
+    this.argumentIndices = argumentIndices;
+    this.literalLength = literalLength;
+  }
+
+  static String format(String raw, Object[] args) {
+    return raw.indexOf('%') < 0
+      ? raw
+      : TEMPLATES.getUnchecked(raw).render(args);
+  }
+
+  private String render(Object[] args) {
+    if (literals == null) {
+      return String.format(raw, args);
+    }
+    if (argumentIndices.length == 0) {
+      return literals[0];
+    }
+    if (args == null) {
+      return String.format(raw, (Object[]) null);
+    }
+
+    StringBuilder buffer =
+      new StringBuilder(literalLength + 16 * argumentIndices.length);
+    for (int i = 0; i < argumentIndices.length; ++i) {
+      int index = argumentIndices[i];
+      if (index >= args.length || args[index] instanceof Formattable) {
+        return String.format(raw, args);
+      }
+
+      buffer.append(literals[i]).append(args[index]);
+    }
+    buffer.append(literals[argumentIndices.length]);
+
+    return buffer.toString();
+  }
+
+  private static FormatTemplate compile(String raw) {
+    List<String> literals = new ArrayList<>();
+    List<Integer> argumentIndices = new ArrayList<>();
+    StringBuilder literal = new StringBuilder(raw.length());
+    int literalLength = 0;
+    int ordinary = 0;
+
+    int i = 0;
+    while (i < raw.length()) {
+      char ch = raw.charAt(i);
+      if (ch != '%') {
+        literal.append(ch);
+        ++i;
+        continue;
+      }
+      if (i + 1 == raw.length()) {
+        return unsupported(raw);
+      }
+
+      char conversion = raw.charAt(i + 1);
+      if (conversion == '%') {
+        literal.append('%');
+        i += 2;
+      } else if (conversion == 'n') {
+        literal.append(System.lineSeparator());
+        i += 2;
+      } else if (conversion == 's') {
+        literalLength += literal.length();
+        literals.add(literal.toString());
+        literal.setLength(0);
+        argumentIndices.add(ordinary++);
+        i += 2;
+      } else {
+        int end = i + 1;
+        while (end < raw.length() && Character.isDigit(raw.charAt(end))) {
+          ++end;
+        }
+
+        int digits = end - (i + 1);
+        if (digits == 0
+          || digits > 9
+          || end + 1 >= raw.length()
+          || raw.charAt(end) != '$'
+          || raw.charAt(end + 1) != 's') {
+
+          return unsupported(raw);
+        }
+
+        int explicit = Integer.parseInt(raw.substring(i + 1, end));
+        if (explicit == 0) {
+          return unsupported(raw);
+        }
+
+        literalLength += literal.length();
+        literals.add(literal.toString());
+        literal.setLength(0);
+        argumentIndices.add(explicit - 1);
+        i = end + 2;
+      }
+    }
+    literalLength += literal.length();
+    literals.add(literal.toString());
+
+    return new FormatTemplate(
+      raw,
+      literals.toArray(new String[0]),
+      argumentIndices.stream().mapToInt(Integer::intValue).toArray(),
+      literalLength);
+  }
+
+  private static FormatTemplate unsupported(String raw) {
+    return new FormatTemplate(raw, null, null, 0);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.BoundProperty;
+import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.conversions.InetAddressResolution;
+import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Converts host names through the binder's address resolution, if it has
+ * one, else through the loaded conversions. Host names are looked up in
+ * the background as soon as a binding is made, so that reads seldom wait
+ * on name lookups.
+ */
+class InetAddressConverter extends SingularValueConverter {
+  private final SingularValueConverter loaded;
+  private final InetAddressResolution resolution;
+
+  InetAddressConverter(
+    SingularValueConverter loaded,
+    InetAddressResolution resolution) {
+
+    super(loaded.parsePatterns());
+    this.loaded = loaded;
+    this.resolution = resolution;
+  }
+
+  @Override SingularValueConverter withPatterns(ParsePatterns resolved) {
+    return new InetAddressConverter(
+      loaded.withPatterns(resolved),
+      resolution);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    InetAddressResolution configured = options.addressResolution();
+    return configured == null
+      ? this
+      : new InetAddressConverter(loaded, configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return true;
+  }
+
+  @Override public void prefetch(PropertySource properties, BoundProperty key) {
+    String host;
+    try {
+      Object raw = properties.propertyFor(key);
+      if (!(raw instanceof String)) {
+        return;
+      }
+      host = FormatTemplate.format((String) raw, null);
+    } catch (IllegalArgumentException ex) {
+      // surfaces when the property is read
+      return;
+    }
+
+    if (resolution != null) {
+      resolution.prefetch(host);
+    } else {
+      // warms the caches of the loaded conversions
+      ForkJoinPool.commonPool().execute(() -> {
+        try {
+          loaded.convert(host);
+        } catch (RuntimeException ex) {
+          // surfaces when the property is read
+        }
+      });
+    }
+  }
+
+  @Override public Object convert(String formatted) {
+    if (resolution == null) {
+      return loaded.convert(formatted);
+    }
+
+    try {
+      return resolution.resolve(formatted);
+    } catch (UnknownHostException | SecurityException ex) {
+      throw new IllegalArgumentException(ex);
+    }
+  }
+}
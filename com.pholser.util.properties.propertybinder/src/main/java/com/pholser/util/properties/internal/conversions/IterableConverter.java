@@ -0,0 +1,73 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.internal.separators.ValueSeparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+class IterableConverter extends AggregateValueConverter {
+  IterableConverter(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    super(separator, elementConverter, options);
+  }
+
+  @Override AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    return new IterableConverter(separator, elementConverter, options);
+  }
+
+  @Override public Iterable<Object> convert(String formatted) {
+    // each traversal separates and converts the value afresh
+    return () -> convertOnDemand(formatted);
+  }
+
+  @Override public Object nilValue() {
+    return emptyList();
+  }
+
+  @Override public Object share(Object converted) {
+    // Shared iterables are converted up front, so that conversion errors
+    // surface when the iterable is made rather than when it is traversed.
+    if (!(converted instanceof Iterable<?>) || converted instanceof List<?>) {
+      return converted;
+    }
+
+    List<Object> elements = new ArrayList<>();
+    ((Iterable<?>) converted).forEach(elements::add);
+    return unmodifiableList(elements);
+  }
+}
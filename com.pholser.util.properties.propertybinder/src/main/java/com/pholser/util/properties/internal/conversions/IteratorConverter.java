@@ -0,0 +1,78 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.internal.separators.ValueSeparator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.unmodifiableList;
+
+class IteratorConverter extends AggregateValueConverter {
+  IteratorConverter(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    super(separator, elementConverter, options);
+  }
+
+  @Override AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    return new IteratorConverter(separator, elementConverter, options);
+  }
+
+  @Override public Iterator<Object> convert(String formatted) {
+    return convertOnDemand(formatted);
+  }
+
+  @Override public Object nilValue() {
+    return emptyIterator();
+  }
+
+  @Override public Object share(Object converted) {
+    // An iterator can be traversed only once, so keep its elements instead.
+    if (!(converted instanceof Iterator<?>)) {
+      return converted;
+    }
+
+    List<Object> elements = new ArrayList<>();
+    ((Iterator<?>) converted).forEachRemaining(elements::add);
+    return unmodifiableList(elements);
+  }
+
+  @Override public Object copyOfShared(Object shared) {
+    return shared instanceof List<?>
+      ? ((List<?>) shared).iterator()
+      : shared;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * An unmodifiable list over separated pieces of a property value, which
+ * converts each piece the first time its element is asked for.
+ *
+ * Each piece is converted once, and the outcome kept: an element whose piece
+ * cannot be converted answers the same IllegalArgumentException from every
+ * call to get(), and from anything that reads the element through get(),
+ * such as iteration, equals() and hashCode(). Other elements stay readable.
+ * Racing first reads may each convert a piece, but all of them answer the
+ * outcome that was kept first.
+ */
+final class LazilyConvertedList extends AbstractList<Object>
+  implements RandomAccess {
+
+  private static final Object NULL = new Object();
+
+  private final String[] pieces;
+  private final ValueConverter elementConverter;
+  private final AtomicReferenceArray<Object> converted;
+
+  LazilyConvertedList(String[] pieces, ValueConverter elementConverter) {
+    this.pieces = pieces;
+    this.elementConverter = elementConverter;
+    this.converted = new AtomicReferenceArray<>(pieces.length);
+  }
+
+  @Override public Object get(int index) {
+    Object outcome = converted.get(index);
+    if (outcome == null) {
+      outcome = convert(pieces[index]);
+      if (!converted.compareAndSet(index, null, outcome)) {
+        outcome = converted.get(index);
+      }
+    }
+
+    if (outcome instanceof Failure) {
+      throw ((Failure) outcome).exception;
+    }
+    return outcome == NULL ? null : outcome;
+  }
+
+  private Object convert(String piece) {
+    try {
+      Object element = elementConverter.convert(piece);
+      return element == null ? NULL : element;
+    } catch (IllegalArgumentException ex) {
+      return new Failure(ex);
+    }
+  }
+
+  @Override public int size() {
+    return pieces.length;
+  }
+
+  LazilyConvertedList convertAll() {
+    for (int i = 0; i < pieces.length; ++i) {
+      get(i);
+    }
+    return this;
+  }
+
+  private static final class Failure {
+    final IllegalArgumentException exception;
+
+    Failure(IllegalArgumentException exception) {
+      this.exception = exception;
+    }
+  }
+}
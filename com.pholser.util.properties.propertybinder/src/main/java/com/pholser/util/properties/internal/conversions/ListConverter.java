@@ -27,26 +27,60 @@ package com.pholser.util.properties.internal.conversions;
 
 import com.pholser.util.properties.internal.separators.ValueSeparator;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
 class ListConverter extends AggregateValueConverter {
   ListConverter(
     ValueSeparator separator,
-    ValueConverter elementConverter) {
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    super(separator, elementConverter, options);
+  }
+
+  @Override AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
 
-    super(separator, elementConverter);
+    return new ListConverter(separator, elementConverter, options);
   }
 
   @Override public List<Object> convert(String formatted) {
-    return Arrays.stream(separate(formatted))
-      .map(elementConverter()::convert)
-      .collect(Collectors.toList());
+    String[] pieces = separate(formatted);
+    if (pieces.length == 0) {
+      return emptyList();
+    }
+
+    if (convertsInParallel(pieces.length)) {
+      Object[] elements = new Object[pieces.length];
+      ValueConverter element = elementConverter();
+      convertEach(
+        pieces.length,
+        i -> elements[i] = element.convert(pieces[i]));
+      return unmodifiableList(asList(elements));
+    }
+
+    return new LazilyConvertedList(pieces, elementConverter());
   }
 
   @Override public Object nilValue() {
-    return new ArrayList<>(0);
+    return emptyList();
+  }
+
+  @Override public Object share(Object converted) {
+    // Shared lists are converted up front, so that conversion errors
+    // surface when the list is made rather than when it is read.
+    if (converted instanceof LazilyConvertedList) {
+      return ((LazilyConvertedList) converted).convertAll();
+    }
+
+    return converted instanceof List<?>
+      ? unmodifiableList((List<?>) converted)
+      : converted;
   }
 }
@@ -26,38 +26,223 @@
 package com.pholser.util.properties.internal.conversions;
 
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.Parser;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
 
 class LoadedValueConverter extends SingularValueConverter {
   private final List<Conversion<?>> loaded;
+  private final List<Parser<?>> parsers;
+
+  private volatile int lastSucceeded;
 
   LoadedValueConverter(ParsePatterns patterns, List<Conversion<?>> loaded) {
     super(patterns);
     this.loaded = loaded;
+    this.parsers = prepare(loaded, patterns.resolved());
+  }
+
+  @Override SingularValueConverter withPatterns(ParsePatterns resolved) {
+    return new LoadedValueConverter(resolved, loaded);
   }
 
+  /*
+   * Answers what the first conversion, in load order, to succeed would;
+   * conversions that decline the value are tried only after every one that
+   * accepts it has failed. To save failed attempts, the conversion that
+   * last succeeded goes first, but only if every conversion ahead of it
+   * declines the value, so that the answer never depends on what this
+   * converter converted before.
+   */
   @Override public Object convert(String formatted) {
-    List<String> resolvedPatterns = parsePatterns().resolved();
-    List<IllegalArgumentException> exceptions = new ArrayList<>();
+    int preferred = lastSucceeded;
+    if (preferred > 0 && declinedAhead(preferred, formatted)) {
+      Parser<?> candidate = parsers.get(preferred);
+      if (candidate.accepts(formatted)) {
+        try {
+          return candidate.parse(formatted);
+        } catch (IllegalArgumentException ex) {
+          // start over, in order
+        }
+      }
+    }
 
-    for (Conversion<?> each : loaded) {
+    return convertInOrder(formatted);
+  }
+
+  private Object convertInOrder(String formatted) {
+    List<IllegalArgumentException> exceptions = null;
+
+    for (int index = 0; index < parsers.size(); ++index) {
+      Parser<?> each = parsers.get(index);
+      if (!each.accepts(formatted)) {
+        continue;
+      }
+
+      try {
+        Object converted = each.parse(formatted);
+        succeeded(index);
+        return converted;
+      } catch (IllegalArgumentException ex) {
+        exceptions = failed(exceptions, ex);
+      }
+    }
+
+    // Give conversions that declined the value a chance to explain why.
+    for (Parser<?> each : parsers) {
+      if (each.accepts(formatted)) {
+        continue;
+      }
+
+      try {
+        return each.parse(formatted);
+      } catch (IllegalArgumentException ex) {
+        exceptions = failed(exceptions, ex);
+      }
+    }
+
+    throw conversionFailure(formatted, exceptions);
+  }
+
+  private boolean declinedAhead(int index, String formatted) {
+    for (int ahead = 0; ahead < index; ++ahead) {
+      if (parsers.get(ahead).accepts(formatted)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private List<IllegalArgumentException> failed(
+    List<IllegalArgumentException> exceptions,
+    IllegalArgumentException ex) {
+
+    List<IllegalArgumentException> failures =
+      exceptions == null ? new ArrayList<>(parsers.size()) : exceptions;
+    failures.add(ex);
+    return failures;
+  }
+
+  /*
+   * The conversion tried first is always the first, in load order, to
+   * accept the value. When its parser yields primitives, that attempt skips
+   * boxing; otherwise, or if it fails, the boxed path answers.
+   */
+  private int firstAccepting(String formatted) {
+    for (int index = 0; index < parsers.size(); ++index) {
+      if (parsers.get(index).accepts(formatted)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private void succeeded(int index) {
+    if (lastSucceeded != index) {
+      lastSucceeded = index;
+    }
+  }
+
+  @Override public int convertToInt(String formatted) {
+    int index = firstAccepting(formatted);
+    if (index >= 0 && parsers.get(index) instanceof Parser.OfInt) {
+      try {
+        int converted =
+          ((Parser.OfInt) parsers.get(index)).parseInt(formatted);
+        succeeded(index);
+        return converted;
+      } catch (IllegalArgumentException ex) {
+        // start over, in order, to collect every failure
+      }
+    }
+
+    return super.convertToInt(formatted);
+  }
+
+  @Override public long convertToLong(String formatted) {
+    int index = firstAccepting(formatted);
+    if (index >= 0 && parsers.get(index) instanceof Parser.OfLong) {
+      try {
+        long converted =
+          ((Parser.OfLong) parsers.get(index)).parseLong(formatted);
+        succeeded(index);
+        return converted;
+      } catch (IllegalArgumentException ex) {
+        // start over, in order, to collect every failure
+      }
+    }
+
+    return super.convertToLong(formatted);
+  }
+
+  @Override public double convertToDouble(String formatted) {
+    int index = firstAccepting(formatted);
+    if (index >= 0 && parsers.get(index) instanceof Parser.OfDouble) {
+      try {
+        double converted =
+          ((Parser.OfDouble) parsers.get(index)).parseDouble(formatted);
+        succeeded(index);
+        return converted;
+      } catch (IllegalArgumentException ex) {
+        // start over, in order, to collect every failure
+      }
+    }
+
+    return super.convertToDouble(formatted);
+  }
+
+  @Override public boolean convertToBoolean(String formatted) {
+    int index = firstAccepting(formatted);
+    if (index >= 0 && parsers.get(index) instanceof Parser.OfBoolean) {
       try {
-        return each.convert(formatted, resolvedPatterns);
+        boolean converted =
+          ((Parser.OfBoolean) parsers.get(index)).parseBoolean(formatted);
+        succeeded(index);
+        return converted;
       } catch (IllegalArgumentException ex) {
-        exceptions.add(ex);
-        // try the next conversion
+        // start over, in order, to collect every failure
       }
     }
 
-    throw new IllegalArgumentException(
+    return super.convertToBoolean(formatted);
+  }
+
+  private static IllegalArgumentException conversionFailure(
+    String formatted,
+    List<IllegalArgumentException> exceptions) {
+
+    return new IllegalArgumentException(
       "Could not convert [" + formatted + "]: "
         + exceptions.stream()
           .map(Object::toString)
           .collect(joining()));
   }
+
+  private static List<Parser<?>> prepare(
+    List<Conversion<?>> loaded,
+    List<String> patterns) {
+
+    List<Parser<?>> prepared = new ArrayList<>(loaded.size());
+    for (Conversion<?> each : loaded) {
+      prepared.add(prepare(each, patterns));
+    }
+    return unmodifiableList(prepared);
+  }
+
+  private static Parser<?> prepare(
+    Conversion<?> conversion,
+    List<String> patterns) {
+
+    try {
+      return conversion.prepare(patterns);
+    } catch (IllegalArgumentException ex) {
+      // Unusable patterns get reported when a value is converted.
+      return value -> conversion.convert(value, patterns);
+    }
+  }
 }
@@ -0,0 +1,164 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
+import com.pholser.util.properties.internal.separators.ValueSeparator;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/*
+ * Converts values made of key-value entries, such as a=1,b=2, to
+ * unmodifiable maps. Entries are separated by the property's value
+ * separator; each entry's key and value by the first match of the
+ * key-value separator. Maps with enum keys are backed by an EnumMap;
+ * other maps keep the order in which their keys appear in the value.
+ * If a key repeats, its last value wins. Above the binder's parallel
+ * threshold, entries are converted on its executor, and every entry that
+ * fails is reported together.
+ */
+class MapConverter extends ValueConverter {
+  private final Class<?> keyType;
+  private final ValueSeparator separator;
+  private final Pattern keyValueSeparator;
+  private final ValueConverter keyConverter;
+  private final ValueConverter valueConverter;
+  private final ConversionOptions options;
+
+  MapConverter(
+    Class<?> keyType,
+    ValueSeparator separator,
+    Pattern keyValueSeparator,
+    ValueConverter keyConverter,
+    ValueConverter valueConverter,
+    ConversionOptions options) {
+
+    this.keyType = keyType;
+    this.separator = separator;
+    this.keyValueSeparator = keyValueSeparator;
+    this.keyConverter = keyConverter;
+    this.valueConverter = valueConverter;
+    this.options = options;
+  }
+
+  @Override public Map<?, ?> convert(String formatted) {
+    String[] entries = separator.separate(formatted);
+    if (entries.length == 0) {
+      return emptyMap();
+    }
+
+    Map<Object, Object> map = newMap(entries.length);
+    if (options.convertsInParallel(entries.length)) {
+      Object[] keys = new Object[entries.length];
+      Object[] values = new Object[entries.length];
+      ParallelConversion.convertEach(
+        entries.length,
+        options.executor(),
+        i -> {
+          String[] keyAndValue = keyAndValue(entries[i]);
+          keys[i] = keyConverter.convert(keyAndValue[0]);
+          values[i] = valueConverter.convert(keyAndValue[1]);
+        });
+      for (int i = 0; i < entries.length; ++i) {
+        map.put(keys[i], values[i]);
+      }
+    } else {
+      for (String entry : entries) {
+        String[] keyAndValue = keyAndValue(entry);
+        map.put(
+          keyConverter.convert(keyAndValue[0]),
+          valueConverter.convert(keyAndValue[1]));
+      }
+    }
+    return unmodifiableMap(map);
+  }
+
+  private String[] keyAndValue(String entry) {
+    String[] keyAndValue = keyValueSeparator.split(entry, 2);
+    if (keyAndValue.length < 2) {
+      throw new IllegalArgumentException(
+        "Entry [" + entry + "] has no key-value separator matching ["
+          + keyValueSeparator.pattern() + ']');
+    }
+    return keyAndValue;
+  }
+
+  @Override public Object nilValue() {
+    return emptyMap();
+  }
+
+  @Override public ParsePatterns parsePatterns() {
+    return valueConverter.parsePatterns();
+  }
+
+  @Override public ValueConverter resolve(PropertySource properties) {
+    ValueSeparator resolvedSeparator = separator.resolve(properties);
+    ValueConverter resolvedKeyConverter = keyConverter.resolve(properties);
+    ValueConverter resolvedValueConverter =
+      valueConverter.resolve(properties);
+
+    return resolvedSeparator == separator
+      && resolvedKeyConverter == keyConverter
+      && resolvedValueConverter == valueConverter
+      ? this
+      : new MapConverter(
+        keyType,
+        resolvedSeparator,
+        keyValueSeparator,
+        resolvedKeyConverter,
+        resolvedValueConverter,
+        options);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    return new MapConverter(
+      keyType,
+      separator,
+      keyValueSeparator,
+      keyConverter.configuredWith(options),
+      valueConverter.configuredWith(options),
+      options);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return keyConverter.dependsOnOptions()
+      || valueConverter.dependsOnOptions();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Map<Object, Object> newMap(int expectedSize) {
+    return keyType.isEnum()
+      ? new EnumMap(keyType)
+      : new LinkedHashMap<>(expectedSize * 4 / 3 + 1);
+  }
+}
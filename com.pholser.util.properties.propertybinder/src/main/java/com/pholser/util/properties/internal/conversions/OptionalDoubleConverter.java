@@ -38,7 +38,7 @@ class OptionalDoubleConverter extends ValueConverter {
   }
 
   @Override public Object convert(String formatted) {
-    return OptionalDouble.of((double) elementConverter.convert(formatted));
+    return OptionalDouble.of(elementConverter.convertToDouble(formatted));
   }
 
   @Override public Object nilValue() {
@@ -49,7 +49,21 @@ class OptionalDoubleConverter extends ValueConverter {
     return elementConverter.parsePatterns();
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // optionals do not resolve
+  @Override public ValueConverter resolve(PropertySource properties) {
+    ValueConverter resolved = elementConverter.resolve(properties);
+    return resolved == elementConverter
+      ? this
+      : new OptionalDoubleConverter(resolved);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    ValueConverter configured = elementConverter.configuredWith(options);
+    return configured == elementConverter
+      ? this
+      : new OptionalDoubleConverter(configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return elementConverter.dependsOnOptions();
   }
 }
@@ -38,7 +38,7 @@ class OptionalIntConverter extends ValueConverter {
   }
 
   @Override public Object convert(String formatted) {
-    return OptionalInt.of((int) elementConverter.convert(formatted));
+    return OptionalInt.of(elementConverter.convertToInt(formatted));
   }
 
   @Override public Object nilValue() {
@@ -49,7 +49,21 @@ class OptionalIntConverter extends ValueConverter {
     return elementConverter.parsePatterns();
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // optionals do not resolve
+  @Override public ValueConverter resolve(PropertySource properties) {
+    ValueConverter resolved = elementConverter.resolve(properties);
+    return resolved == elementConverter
+      ? this
+      : new OptionalIntConverter(resolved);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    ValueConverter configured = elementConverter.configuredWith(options);
+    return configured == elementConverter
+      ? this
+      : new OptionalIntConverter(configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return elementConverter.dependsOnOptions();
   }
 }
@@ -38,7 +38,7 @@ class OptionalLongConverter extends ValueConverter {
   }
 
   @Override public Object convert(String formatted) {
-    return OptionalLong.of((long) elementConverter.convert(formatted));
+    return OptionalLong.of(elementConverter.convertToLong(formatted));
   }
 
   @Override public Object nilValue() {
@@ -49,7 +49,21 @@ class OptionalLongConverter extends ValueConverter {
     return elementConverter.parsePatterns();
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // optionals do not resolve
+  @Override public ValueConverter resolve(PropertySource properties) {
+    ValueConverter resolved = elementConverter.resolve(properties);
+    return resolved == elementConverter
+      ? this
+      : new OptionalLongConverter(resolved);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    ValueConverter configured = elementConverter.configuredWith(options);
+    return configured == elementConverter
+      ? this
+      : new OptionalLongConverter(configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return elementConverter.dependsOnOptions();
   }
 }
@@ -25,6 +25,7 @@
 
 package com.pholser.util.properties.internal.conversions;
 
+import com.pholser.util.properties.BoundProperty;
 import com.pholser.util.properties.PropertySource;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
@@ -49,7 +50,25 @@ class OptionalValueConverter extends ValueConverter {
     return elementConverter.parsePatterns();
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // optionals do not resolve
+  @Override public ValueConverter resolve(PropertySource properties) {
+    ValueConverter resolved = elementConverter.resolve(properties);
+    return resolved == elementConverter
+      ? this
+      : new OptionalValueConverter(resolved);
+  }
+
+  @Override public ValueConverter configuredWith(ConversionOptions options) {
+    ValueConverter configured = elementConverter.configuredWith(options);
+    return configured == elementConverter
+      ? this
+      : new OptionalValueConverter(configured);
+  }
+
+  @Override public boolean dependsOnOptions() {
+    return elementConverter.dependsOnOptions();
+  }
+
+  @Override public void prefetch(PropertySource properties, BoundProperty key) {
+    elementConverter.prefetch(properties, key);
   }
 }
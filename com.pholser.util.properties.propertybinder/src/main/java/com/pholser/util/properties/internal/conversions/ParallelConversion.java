@@ -0,0 +1,125 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import static java.util.stream.Collectors.joining;
+
+/*
+ * Converts chunks of elements on an executor. The calling thread claims
+ * chunks too, and waits only for chunks that other threads have already
+ * claimed, so that conversion finishes even if the executor never runs
+ * the tasks given to it -- for instance, a bounded pool whose threads are
+ * all busy converting, or waiting on conversions. If the executor rejects
+ * a task, the calling thread converts what would have been its share.
+ */
+final class ParallelConversion {
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  private ParallelConversion() {
+    throw new UnsupportedOperationException();
+  }
+
+  static void convertEach(
+    int elementCount,
+    Executor executor,
+    IntConsumer conversion) {
+
+    Map<Integer, IllegalArgumentException> failures =
+      new ConcurrentSkipListMap<>();
+    AtomicReference<Throwable> unexpected = new AtomicReference<>();
+
+    int chunks =
+      Math.min(
+        elementCount,
+        Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR);
+    int chunkSize = (elementCount + chunks - 1) / chunks;
+    AtomicInteger nextChunk = new AtomicInteger();
+    CountDownLatch converted = new CountDownLatch(chunks);
+
+    Runnable worker = () -> {
+      for (int chunk = nextChunk.getAndIncrement();
+        chunk < chunks;
+        chunk = nextChunk.getAndIncrement()) {
+
+        try {
+          int from = chunk * chunkSize;
+          int to = Math.min(elementCount, from + chunkSize);
+          for (int i = from; i < to; ++i) {
+            try {
+              conversion.accept(i);
+            } catch (IllegalArgumentException ex) {
+              failures.put(i, ex);
+            }
+          }
+        } catch (RuntimeException | Error ex) {
+          unexpected.compareAndSet(null, ex);
+        } finally {
+          converted.countDown();
+        }
+      }
+    };
+
+    for (int helper = 1; helper < chunks; ++helper) {
+      try {
+        executor.execute(worker);
+      } catch (RejectedExecutionException ex) {
+        break;
+      }
+    }
+    worker.run();
+    Uninterruptibles.awaitUninterruptibly(converted);
+
+    Throwable problem = unexpected.get();
+    if (problem instanceof RuntimeException) {
+      throw (RuntimeException) problem;
+    }
+    if (problem instanceof Error) {
+      throw (Error) problem;
+    }
+
+    if (!failures.isEmpty()) {
+      IllegalArgumentException failure =
+        new IllegalArgumentException(
+          "Could not convert elements at indexes " + failures.keySet() + ": "
+            + failures.entrySet().stream()
+              .map(e -> "[" + e.getKey() + "] " + e.getValue())
+              .collect(joining("; ")));
+      failures.values().forEach(failure::addSuppressed);
+      throw failure;
+    }
+  }
+}
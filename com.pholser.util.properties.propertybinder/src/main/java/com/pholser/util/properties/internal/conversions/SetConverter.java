@@ -0,0 +1,130 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.conversions;
+
+import com.pholser.util.properties.internal.separators.ValueSeparator;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.emptySortedSet;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableSortedSet;
+
+/*
+ * Converts to Set, SortedSet or EnumSet. Sets of enum constants are
+ * backed by an EnumSet; other sets keep the order in which their elements
+ * appear in the value. Sets other than EnumSets are unmodifiable.
+ */
+class SetConverter extends AggregateValueConverter {
+  private final Class<?> setType;
+  private final Class<?> elementType;
+
+  SetConverter(
+    Class<?> setType,
+    Class<?> elementType,
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    super(separator, elementConverter, options);
+    this.setType = setType;
+    this.elementType = elementType;
+  }
+
+  @Override AggregateValueConverter with(
+    ValueSeparator separator,
+    ValueConverter elementConverter,
+    ConversionOptions options) {
+
+    return new SetConverter(
+      setType,
+      elementType,
+      separator,
+      elementConverter,
+      options);
+  }
+
+  @Override public Set<?> convert(String formatted) {
+    String[] pieces = separate(formatted);
+    if (pieces.length == 0) {
+      return (Set<?>) nilValue();
+    }
+
+    Object[] elements = new Object[pieces.length];
+    ValueConverter element = elementConverter();
+    convertEach(
+      pieces.length,
+      i -> elements[i] = element.convert(pieces[i]));
+
+    Set<Object> set = newSet(pieces.length);
+    Collections.addAll(set, elements);
+
+    if (set instanceof EnumSet<?>) {
+      return EnumSet.class.equals(setType) ? set : unmodifiableSet(set);
+    }
+    return set instanceof SortedSet<?>
+      ? unmodifiableSortedSet((SortedSet<Object>) set)
+      : unmodifiableSet(set);
+  }
+
+  @Override public Object nilValue() {
+    if (EnumSet.class.equals(setType)) {
+      return noneOf(elementType);
+    }
+
+    return SortedSet.class.equals(setType)
+      ? emptySortedSet()
+      : emptySet();
+  }
+
+  @Override public Object copyOfShared(Object shared) {
+    // EnumSets are the only modifiable sets answered
+    return shared instanceof EnumSet<?>
+      ? ((EnumSet<?>) shared).clone()
+      : shared;
+  }
+
+  private Set<Object> newSet(int expectedSize) {
+    if (elementType.isEnum() && !SortedSet.class.equals(setType)) {
+      return noneOf(elementType);
+    }
+
+    return SortedSet.class.equals(setType)
+      ? new TreeSet<>()
+      : new LinkedHashSet<>(expectedSize * 4 / 3 + 1);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Set<Object> noneOf(Class<?> enumType) {
+    return EnumSet.noneOf((Class<Enum>) enumType);
+  }
+}
@@ -39,8 +39,15 @@ abstract class SingularValueConverter extends ValueConverter {
     return null;
   }
 
-  @Override public final void resolve(PropertySource properties) {
-    // scalars do not resolve
+  @Override public final ValueConverter resolve(PropertySource properties) {
+    return patterns != null && patterns.hasSubstitutions()
+      ? withPatterns(patterns.resolve(properties))
+      : this;
+  }
+
+  SingularValueConverter withPatterns(ParsePatterns resolved) {
+    // most scalars do not consult their patterns
+    return this;
   }
 
   @Override public ParsePatterns parsePatterns() {
@@ -25,21 +25,60 @@
 
 package com.pholser.util.properties.internal.conversions;
 
+import com.pholser.util.properties.BoundProperty;
 import com.pholser.util.properties.PropertySource;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 
 public abstract class ValueConverter {
   public Object convertRaw(Object raw, Object[] args) {
     return raw instanceof String
-      ? convert(String.format((String) raw, args))
+      ? convert(FormatTemplate.format((String) raw, args))
       : raw;
   }
 
   public abstract Object convert(String formatted);
 
+  public int convertToInt(String formatted) {
+    return (int) convert(formatted);
+  }
+
+  public long convertToLong(String formatted) {
+    return (long) convert(formatted);
+  }
+
+  public double convertToDouble(String formatted) {
+    return (double) convert(formatted);
+  }
+
+  public boolean convertToBoolean(String formatted) {
+    return (boolean) convert(formatted);
+  }
+
   public abstract Object nilValue();
 
   public abstract ParsePatterns parsePatterns();
 
-  public abstract void resolve(PropertySource properties);
+  public abstract ValueConverter resolve(PropertySource properties);
+
+  public ValueConverter configuredWith(ConversionOptions options) {
+    // most converters are unaffected by conversion options
+    return this;
+  }
+
+  public boolean dependsOnOptions() {
+    // whether configuredWith can change what convert answers
+    return false;
+  }
+
+  public void prefetch(PropertySource properties, BoundProperty key) {
+    // most converters have no slow work worth starting at bind time
+  }
+
+  public Object share(Object converted) {
+    return converted;
+  }
+
+  public Object copyOfShared(Object shared) {
+    return shared;
+  }
 }
@@ -27,7 +27,10 @@ package com.pholser.util.properties.internal.conversions;
 
 import com.google.common.reflect.TypeToken;
 import com.pholser.util.properties.DefaultsTo;
+import com.pholser.util.properties.ValuesSeparatedBy;
 import com.pholser.util.properties.conversions.Conversion;
+import com.pholser.util.properties.conversions.java.lang.ClassForNameConversion;
+import com.pholser.util.properties.internal.exceptions.MalformedSeparatorException;
 import com.pholser.util.properties.internal.exceptions.UnsupportedValueTypeException;
 import com.pholser.util.properties.internal.parsepatterns.ParsePatterns;
 import com.pholser.util.properties.internal.separators.ValueSeparator;
@@ -39,7 +42,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.net.InetAddress;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -48,8 +53,15 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static com.pholser.util.properties.internal.Schemata.annotationDefault;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 public class ValueConverterFactory {
@@ -93,7 +105,7 @@ public class ValueConverterFactory {
 
     List<Conversion<?>> loaded = registrants.get(valueType.getType());
     if (loaded != null) {
-      return new LoadedValueConverter(patterns, loaded);
+      return loadedConverter(valueType.getType(), patterns, loaded);
     }
 
     DefaultsTo defaults = propertyMethod.getAnnotation(DefaultsTo.class);
@@ -101,7 +113,8 @@ public class ValueConverterFactory {
     if (Class.class.equals(valueType.getRawType())) {
       return new ClassConverter(
         patterns,
-        upperBoundsFor(valueType.getType()));
+        upperBoundsFor(valueType.getType()),
+        classLoaderFor(propertyMethod.getDeclaringClass()));
     }
 
     if (Optional.class.equals(valueType.getRawType())) {
@@ -152,7 +165,41 @@ public class ValueConverterFactory {
           componentType.getType(),
           patterns,
           defaults,
-          separator));
+          separator),
+        ConversionOptions.DEFAULTS);
+    }
+
+    if (Stream.class.equals(valueType.getRawType())) {
+      return new StreamConverter(
+        separator,
+        createSingularConverter(
+          elementTypeOf(valueType.getType()),
+          patterns,
+          defaults,
+          separator),
+        ConversionOptions.DEFAULTS);
+    }
+
+    if (Iterator.class.equals(valueType.getRawType())) {
+      return new IteratorConverter(
+        separator,
+        createSingularConverter(
+          elementTypeOf(valueType.getType()),
+          patterns,
+          defaults,
+          separator),
+        ConversionOptions.DEFAULTS);
+    }
+
+    if (Iterable.class.equals(valueType.getRawType())) {
+      return new IterableConverter(
+        separator,
+        createSingularConverter(
+          elementTypeOf(valueType.getType()),
+          patterns,
+          defaults,
+          separator),
+        ConversionOptions.DEFAULTS);
     }
 
     if (List.class.equals(valueType.getRawType())) {
@@ -162,7 +209,40 @@ public class ValueConverterFactory {
           elementTypeOf(valueType.getType()),
           patterns,
           defaults,
-          separator));
+          separator),
+        ConversionOptions.DEFAULTS);
+    }
+
+    if (isSetType(valueType.getRawType())) {
+      Class<?> elementType = elementTypeOf(valueType.getType());
+      ensureSettable(valueType, elementType);
+
+      return new SetConverter(
+        valueType.getRawType(),
+        elementType,
+        separator,
+        createSingularConverter(elementType, patterns, defaults, separator),
+        ConversionOptions.DEFAULTS);
+    }
+
+    if (Map.class.equals(valueType.getRawType())) {
+      Class<?> keyType = typeArgumentOf(valueType.getType(), 0);
+
+      return new MapConverter(
+        keyType,
+        separator,
+        keyValueSeparatorFor(propertyMethod),
+        createSingularConverter(
+          keyType,
+          ParsePatterns.none(),
+          defaults,
+          separator),
+        createSingularConverter(
+          typeArgumentOf(valueType.getType(), 1),
+          patterns,
+          defaults,
+          separator),
+        ConversionOptions.DEFAULTS);
     }
 
     return createSingularConverter(
@@ -172,6 +252,71 @@ public class ValueConverterFactory {
       separator);
   }
 
+  private static boolean isSetType(Class<?> rawType) {
+    return Set.class.equals(rawType)
+      || SortedSet.class.equals(rawType)
+      || EnumSet.class.equals(rawType);
+  }
+
+  private static void ensureSettable(
+    TypeToken<?> setType,
+    Class<?> elementType) {
+
+    boolean settable =
+      EnumSet.class.equals(setType.getRawType())
+        ? elementType.isEnum()
+        : !SortedSet.class.equals(setType.getRawType())
+          || Comparable.class.isAssignableFrom(elementType);
+    if (!settable) {
+      throw new UnsupportedValueTypeException(setType.getType());
+    }
+  }
+
+  private static Pattern keyValueSeparatorFor(Method propertyMethod) {
+    ValuesSeparatedBy spec =
+      propertyMethod.getAnnotation(ValuesSeparatedBy.class);
+    String pattern =
+      spec == null
+        ? annotationDefault(ValuesSeparatedBy.class, "keyValuePattern")
+          .toString()
+        : spec.keyValuePattern();
+
+    try {
+      return Pattern.compile(pattern);
+    } catch (PatternSyntaxException ex) {
+      throw new MalformedSeparatorException(pattern, propertyMethod, ex);
+    }
+  }
+
+  private static ValueConverter loadedConverter(
+    Type valueType,
+    ParsePatterns patterns,
+    List<Conversion<?>> loaded) {
+
+    if (Class.class.equals(valueType) && isClassForNameOnly(loaded)) {
+      return new ClassConverter(
+        patterns,
+        emptyList(),
+        ClassForNameConversion.class.getClassLoader());
+    }
+
+    LoadedValueConverter converter =
+      new LoadedValueConverter(patterns, loaded);
+    return InetAddress.class.equals(valueType)
+      ? new InetAddressConverter(converter, null)
+      : converter;
+  }
+
+  /*
+   * The built-in conversion for raw Class properties loads by name through
+   * its own loader on every read; ClassConverter does the same lookup against
+   * the same loader, but through the per-loader cache of loaded classes.
+   */
+  private static boolean isClassForNameOnly(List<Conversion<?>> loaded) {
+    return loaded.size() == 1
+      && loaded.get(0).getClass().equals(ClassForNameConversion.class);
+  }
+
   private ValueConverter createSingularConverter(
     Type valueType,
     ParsePatterns patterns,
@@ -180,7 +325,7 @@ public class ValueConverterFactory {
 
     List<Conversion<?>> loaded = registrants.get(valueType);
     if (loaded != null) {
-      return new LoadedValueConverter(patterns, loaded);
+      return loadedConverter(valueType, patterns, loaded);
     }
 
     if (valueType instanceof Class<?> && ((Class<?>) valueType).isEnum()) {
@@ -197,13 +342,24 @@ public class ValueConverterFactory {
     return new RawValueConverter(valueType);
   }
 
+  private static ClassLoader classLoaderFor(Class<?> schema) {
+    ClassLoader loader = schema.getClassLoader();
+    return loader == null
+      ? ValueConverterFactory.class.getClassLoader()
+      : loader;
+  }
+
   private Class<?> elementTypeOf(Type type) {
+    return typeArgumentOf(type, 0);
+  }
+
+  private Class<?> typeArgumentOf(Type type, int index) {
     if (type instanceof Class<?>) {
       return String.class;
     }
 
     ParameterizedType parameterized = (ParameterizedType) type;
-    Type generic = parameterized.getActualTypeArguments()[0];
+    Type generic = parameterized.getActualTypeArguments()[index];
     if (generic instanceof Class<?>) {
       return (Class<?>) generic;
     }
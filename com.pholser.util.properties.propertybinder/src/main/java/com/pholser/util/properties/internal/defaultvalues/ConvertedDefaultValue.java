@@ -38,11 +38,10 @@ final class ConvertedDefaultValue implements DefaultValue {
     LoggerFactory.getLogger(ConvertedDefaultValue.class);
 
   private final String value;
-  private final ValueConverter converter;
   private final Method method;
-
-  private boolean conversionOccurred;
-  private Object converted;
+  private final ValueConverter converter;
+  private final Object converted;
+  private final IllegalArgumentException failure;
 
   private ConvertedDefaultValue(
     String value,
@@ -50,22 +49,32 @@ final class ConvertedDefaultValue implements DefaultValue {
     Method method) {
 
     this.value = value;
-    this.converter = converter;
     this.method = method;
+    this.converter = converter;
 
+    Object result = null;
+    IllegalArgumentException deferred = null;
     try {
-      // Convert with any raw patterns available first.
-      attemptConversion();
+      // Convert with whatever patterns are available now.
+      // Shared, lazily converted values fail here rather than when read,
+      // and single-use values such as streams are handed out afresh.
+      result = converter.share(converter.convert(value));
     } catch (IllegalArgumentException ex) {
-      if (converter.parsePatterns().hasSubstitutions()) {
+      if (converter.parsePatterns().hasSubstitutions()
+        || converter.dependsOnOptions()) {
+
         LOGGER.trace(
           "Couldn't convert default value,"
-            + " will try again after pattern resolution",
+            + " will try again when bound",
           ex);
+        deferred = ex;
       } else {
         throw new MalformedDefaultValueException(value, method, ex);
       }
     }
+
+    this.converted = result;
+    this.failure = deferred;
   }
 
   static ConvertedDefaultValue fromValue(
@@ -77,26 +86,20 @@ final class ConvertedDefaultValue implements DefaultValue {
   }
 
   @Override public Object evaluate() {
-    if (conversionOccurred) {
-      return converted;
+    if (failure != null) {
+      throw new MalformedDefaultValueException(value, method, failure);
     }
 
-    try {
-      // Try again with any resolved patterns.
-      attemptConversion();
-
-      return converted;
-    } catch (IllegalArgumentException ex) {
-      throw new MalformedDefaultValueException(value, method, ex);
-    }
+    return converter.copyOfShared(converted);
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // nothing to do here
-  }
+  @Override public DefaultValue resolve(
+    PropertySource properties,
+    ValueConverter resolvedConverter) {
 
-  private void attemptConversion() {
-    converted = converter.convert(value);
-    conversionOccurred = true;
+    // Convert again if binding resolved patterns or configured conversion.
+    return resolvedConverter == converter
+      ? this
+      : new ConvertedDefaultValue(value, resolvedConverter, method);
   }
 }
@@ -26,9 +26,12 @@
 package com.pholser.util.properties.internal.defaultvalues;
 
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.conversions.ValueConverter;
 
 public interface DefaultValue {
   Object evaluate();
 
-  void resolve(PropertySource properties);
+  DefaultValue resolve(
+    PropertySource properties,
+    ValueConverter resolvedConverter);
 }
@@ -39,7 +39,7 @@ public class DefaultValueFactory {
     Method method) {
 
     if (isDefaultDefaultValue(spec)) {
-      return new SubstitutableDefaultValue(spec, converter, method);
+      return new SubstitutableDefaultValue(spec, method);
     }
 
     return ConvertedDefaultValue.fromValue(spec.value(), converter, method);
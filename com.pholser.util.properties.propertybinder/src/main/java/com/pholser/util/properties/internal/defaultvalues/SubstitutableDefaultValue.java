@@ -27,35 +27,35 @@ package com.pholser.util.properties.internal.defaultvalues;
 
 import com.pholser.util.properties.DefaultsTo;
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.SubstitutionTemplate;
 import com.pholser.util.properties.internal.conversions.ValueConverter;
 
 import java.lang.reflect.Method;
 
-import static com.pholser.util.properties.internal.Substitutions.substitute;
-
 class SubstitutableDefaultValue implements DefaultValue {
   private final DefaultsTo spec;
-  private final ValueConverter converter;
+  private final SubstitutionTemplate template;
   private final Method method;
-  private ConvertedDefaultValue converted;
-
-  SubstitutableDefaultValue(
-    DefaultsTo spec,
-    ValueConverter converter,
-    Method method) {
 
+  SubstitutableDefaultValue(DefaultsTo spec, Method method) {
     this.spec = spec;
-    this.converter = converter;
+    this.template = SubstitutionTemplate.parse(spec.valueOf());
     this.method = method;
   }
 
   @Override public Object evaluate() {
-    return converted.evaluate();
+    throw new IllegalStateException(
+      "Default value [" + spec.valueOf() + "] must be resolved before use");
   }
 
-  @Override public void resolve(PropertySource properties) {
-    String substituted = substitute(properties, spec.valueOf());
-    converted =
-      ConvertedDefaultValue.fromValue(substituted, converter, method);
+  @Override public DefaultValue resolve(
+    PropertySource properties,
+    ValueConverter resolvedConverter) {
+
+    String substituted = template.expand(properties);
+    return ConvertedDefaultValue.fromValue(
+      substituted,
+      resolvedConverter,
+      method);
   }
 }
@@ -27,22 +27,51 @@ package com.pholser.util.properties.internal.parsepatterns;
 
 import com.pholser.util.properties.ParsedAs;
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.SubstitutionTemplate;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import static com.pholser.util.properties.internal.Substitutions.substitute;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 
-public class ParsePatterns {
-  private final List<String> raw = new ArrayList<>();
-  private final List<String> substitutable = new ArrayList<>();
-  private final List<String> resolved = new ArrayList<>();
+public final class ParsePatterns {
+  private static final ParsePatterns NONE =
+    new ParsePatterns(emptyList(), emptyList(), emptyList());
 
-  public void load(ParsedAs spec) {
-    Collections.addAll(raw, spec.value());
-    resolved.addAll(raw);
-    Collections.addAll(substitutable, spec.valueOf());
+  private final List<String> raw;
+  private final List<SubstitutionTemplate> substitutable;
+  private final List<String> resolved;
+
+  private ParsePatterns(
+    List<String> raw,
+    List<SubstitutionTemplate> substitutable,
+    List<String> resolved) {
+
+    this.raw = raw;
+    this.substitutable = substitutable;
+    this.resolved = resolved;
+  }
+
+  public static ParsePatterns none() {
+    return NONE;
+  }
+
+  public static ParsePatterns fromSpec(ParsedAs spec) {
+    if (spec == null) {
+      return NONE;
+    }
+
+    List<String> raw = unmodifiableList(asList(spec.value().clone()));
+    return new ParsePatterns(
+      raw,
+      unmodifiableList(
+        asList(spec.valueOf()).stream()
+          .map(SubstitutionTemplate::parse)
+          .collect(toList())),
+      raw);
   }
 
   public boolean hasSubstitutions() {
@@ -50,12 +79,22 @@ public class ParsePatterns {
   }
 
   public List<String> resolved() {
-    return new ArrayList<>(resolved);
+    return resolved;
   }
 
-  public void resolve(PropertySource properties) {
+  public ParsePatterns resolve(PropertySource properties) {
+    if (!hasSubstitutions()) {
+      return this;
+    }
+
+    List<String> substituted = new ArrayList<>(raw);
     substitutable.stream()
-      .map(each -> substitute(properties, each))
-      .forEach(resolved::add);
+      .map(each -> each.expand(properties))
+      .forEach(substituted::add);
+
+    return new ParsePatterns(
+      raw,
+      substitutable,
+      unmodifiableList(substituted));
   }
 }
@@ -0,0 +1,100 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.separators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Answers the pieces of a separated value one at a time, the same pieces
+ * that Pattern.split(CharSequence) would answer all at once. Empty pieces
+ * are held back until a non-empty piece follows them, so that trailing
+ * empty pieces are dropped without looking at the whole value up front.
+ */
+abstract class LazilySeparatedPieces implements Iterator<String> {
+  private final String raw;
+  private int start;
+  private boolean separated;
+  private boolean exhausted;
+  private int heldEmpties;
+  private String next;
+
+  LazilySeparatedPieces(String raw) {
+    this.raw = raw;
+  }
+
+  /*
+   * Finds the next separator at or after the given index; answers its
+   * [start, end) bounds, or null if there are no more separators.
+   */
+  abstract int[] findSeparator(int from);
+
+  @Override public final boolean hasNext() {
+    if (next != null) {
+      return true;
+    }
+
+    while (!exhausted) {
+      String piece = nextPiece();
+      if (!separated || !piece.isEmpty()) {
+        next = piece;
+        return true;
+      }
+      ++heldEmpties;
+    }
+
+    heldEmpties = 0;
+    return false;
+  }
+
+  @Override public final String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    if (heldEmpties > 0) {
+      --heldEmpties;
+      return "";
+    }
+
+    String piece = next;
+    next = null;
+    return piece;
+  }
+
+  private String nextPiece() {
+    int[] bounds = findSeparator(start);
+    if (bounds == null) {
+      exhausted = true;
+      return raw.substring(start);
+    }
+
+    String piece = raw.substring(start, bounds[0]);
+    start = bounds[1];
+    separated = true;
+    return piece;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ The MIT License
+
+ Copyright (c) 2009-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.pholser.util.properties.internal.separators;
+
+import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.ValuesSeparatedBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.pholser.util.properties.internal.Schemata.annotationDefault;
+
+/*
+ * Separates values on a fixed string by scanning with indexOf, instead of
+ * matching a regular expression. Answers the same pieces as
+ * Pattern.split(CharSequence) does for the quoted separator: a leading
+ * empty piece is kept, trailing empty pieces are dropped.
+ */
+class LiteralValueSeparator implements ValueSeparator {
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final String pattern;
+  private final String literal;
+
+  private LiteralValueSeparator(String pattern, String literal) {
+    this.pattern = pattern;
+    this.literal = literal;
+  }
+
+  static ValueSeparator forPattern(String pattern) {
+    String literal = literalOf(pattern);
+    return literal == null
+      ? null
+      : new LiteralValueSeparator(pattern, literal);
+  }
+
+  @Override public String[] separate(String raw) {
+    int next = raw.indexOf(literal);
+    if (next < 0) {
+      return new String[] {raw};
+    }
+
+    List<String> pieces = new ArrayList<>();
+    int start = 0;
+    do {
+      pieces.add(raw.substring(start, next));
+      start = next + literal.length();
+      next = raw.indexOf(literal, start);
+    } while (next >= 0);
+    pieces.add(raw.substring(start));
+
+    int size = pieces.size();
+    while (size > 0 && pieces.get(size - 1).isEmpty()) {
+      --size;
+    }
+    return pieces.subList(0, size).toArray(new String[size]);
+  }
+
+  @Override public Iterator<String> pieces(String raw) {
+    return new LazilySeparatedPieces(raw) {
+      @Override int[] findSeparator(int from) {
+        int found = raw.indexOf(literal, from);
+        return found < 0
+          ? null
+          : new int[] {found, found + literal.length()};
+      }
+    };
+  }
+
+  @Override public ValueSeparator resolve(PropertySource properties) {
+    return this;
+  }
+
+  @Override public boolean isDefault() {
+    return pattern.equals(
+      annotationDefault(ValuesSeparatedBy.class, "pattern"));
+  }
+
+  private static String literalOf(String pattern) {
+    if (pattern.isEmpty()) {
+      return null;
+    }
+
+    if (pattern.length() == 2
+      && pattern.charAt(0) == '\\'
+      && isMetacharacter(pattern.charAt(1))) {
+
+      return pattern.substring(1);
+    }
+
+    for (int i = 0; i < pattern.length(); ++i) {
+      if (isMetacharacter(pattern.charAt(i))) {
+        return null;
+      }
+    }
+    return pattern;
+  }
+
+  private static boolean isMetacharacter(char ch) {
+    return METACHARACTERS.indexOf(ch) >= 0;
+  }
+}
@@ -30,6 +30,8 @@ import com.pholser.util.properties.ValuesSeparatedBy;
 import com.pholser.util.properties.internal.exceptions.MalformedSeparatorException;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -50,8 +52,23 @@ class RegexValueSeparator implements ValueSeparator {
     return regex.split(raw);
   }
 
-  @Override public void resolve(PropertySource properties) {
-    // nothing to do here
+  @Override public Iterator<String> pieces(String raw) {
+    Matcher matcher = regex.matcher(raw);
+    return new LazilySeparatedPieces(raw) {
+      @Override int[] findSeparator(int from) {
+        while (matcher.find()) {
+          // as with split, a zero-width match at the start separates nothing
+          if (matcher.end() > 0) {
+            return new int[] {matcher.start(), matcher.end()};
+          }
+        }
+        return null;
+      }
+    };
+  }
+
+  @Override public ValueSeparator resolve(PropertySource properties) {
+    return this;
   }
 
   @Override public boolean isDefault() {
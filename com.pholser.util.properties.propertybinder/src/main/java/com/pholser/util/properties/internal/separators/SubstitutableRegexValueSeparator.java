@@ -26,33 +26,33 @@
 package com.pholser.util.properties.internal.separators;
 
 import com.pholser.util.properties.PropertySource;
+import com.pholser.util.properties.internal.SubstitutionTemplate;
 
 import java.lang.reflect.Method;
 
-import static com.pholser.util.properties.internal.Substitutions.substitute;
-
 class SubstitutableRegexValueSeparator implements ValueSeparator {
   private final String pattern;
+  private final SubstitutionTemplate template;
   private final Method method;
-  private boolean isDefault;
-  private RegexValueSeparator separator;
 
   SubstitutableRegexValueSeparator(String pattern, Method method) {
     this.pattern = pattern;
+    this.template = SubstitutionTemplate.parse(pattern);
     this.method = method;
   }
 
   @Override public String[] separate(String raw) {
-    return separator.separate(raw);
+    throw new IllegalStateException(
+      "Separator [" + pattern + "] must be resolved before use");
   }
 
-  @Override public void resolve(PropertySource properties) {
-    String substituted = substitute(properties, pattern);
-    separator = new RegexValueSeparator(substituted, method);
-    isDefault = separator.isDefault();
+  @Override public ValueSeparator resolve(PropertySource properties) {
+    return ValueSeparatorFactory.separatorFor(
+      template.expand(properties),
+      method);
   }
 
   @Override public boolean isDefault() {
-    return isDefault;
+    return false;
   }
 }
@@ -27,10 +27,18 @@ package com.pholser.util.properties.internal.separators;
 
 import com.pholser.util.properties.PropertySource;
 
+import java.util.Iterator;
+
+import static java.util.Arrays.asList;
+
 public interface ValueSeparator {
   String[] separate(String raw);
 
-  void resolve(PropertySource properties);
+  default Iterator<String> pieces(String raw) {
+    return asList(separate(raw)).iterator();
+  }
+
+  ValueSeparator resolve(PropertySource properties);
 
   boolean isDefault();
 }
@@ -41,16 +41,23 @@ public class ValueSeparatorFactory {
     Object patternDefault =
       annotationDefault(ValuesSeparatedBy.class, "pattern");
     return spec == null
-      ? new RegexValueSeparator(patternDefault.toString(), method)
+      ? separatorFor(patternDefault.toString(), method)
       : createSeparatorBasedOnSpec(spec, method);
   }
 
+  static ValueSeparator separatorFor(String pattern, Method method) {
+    ValueSeparator literal = LiteralValueSeparator.forPattern(pattern);
+    return literal == null
+      ? new RegexValueSeparator(pattern, method)
+      : literal;
+  }
+
   private static ValueSeparator createSeparatorBasedOnSpec(
     ValuesSeparatedBy spec,
     Method method) {
 
     return isDefaultPattern(spec) && !isDefaultSeparatorValueOf(spec)
       ? new SubstitutableRegexValueSeparator(spec.valueOf(), method)
-      : new RegexValueSeparator(spec.pattern(), method);
+      : separatorFor(spec.pattern(), method);
   }
 }
@@ -54,6 +54,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static com.pholser.util.properties.internal.Schemata.isDefaultDefaultValue;
 import static com.pholser.util.properties.internal.Schemata.isDefaultDefaultValueOf;
@@ -114,12 +115,7 @@ public class SchemaValidator {
         key);
     });
 
-    return new Schema<>(
-      methods,
-      schema,
-      defaults,
-      converters,
-      patterns);
+    return new Schema<>(methods, schema, defaults, converters);
   }
 
   private static void ensureInterface(Class<?> schema) {
@@ -213,7 +209,12 @@ public class SchemaValidator {
   }
 
   private static boolean isAggregateType(Class<?> clazz) {
-    return clazz.isArray() || Collection.class.isAssignableFrom(clazz);
+    return clazz.isArray()
+      || Collection.class.isAssignableFrom(clazz)
+      || Map.class.equals(clazz)
+      || Iterable.class.equals(clazz)
+      || Iterator.class.equals(clazz)
+      || Stream.class.equals(clazz);
   }
 
   private void collectParsePatterns(
@@ -221,13 +222,8 @@ public class SchemaValidator {
     Method method,
     BoundProperty key) {
 
-    ParsePatterns patterns = new ParsePatterns();
-
-    ParsedAs spec = method.getAnnotation(ParsedAs.class);
-    if (spec != null) {
-      patterns.load(spec);
-    }
-
-    patternsByProperty.put(key, patterns);
+    patternsByProperty.put(
+      key,
+      ParsePatterns.fromSpec(method.getAnnotation(ParsedAs.class)));
   }
 }